@@ -3,11 +3,12 @@ package com.cvrp.api;
 import com.cvrp.api.dto.RlSolveRequest;
 import com.cvrp.api.dto.RlSolveResponse;
 import com.cvrp.api.dto.ViolationsDto;
-import com.cvrp.model.Customer;
 import com.cvrp.model.Instance;
 import com.cvrp.model.SolveResult;
 import com.cvrp.rl.QLearningCvrp;
+import com.cvrp.rl.QMode;
 import com.cvrp.rl.QParams;
+import com.cvrp.rl.QTableBudget;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,24 +19,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/rl")
 @CrossOrigin(origins = "http://localhost:4200")
 public class RlSolveController {
 
     private final QLearningCvrp solver;
+    private final QTableBudget qTableBudget;
     private static final Logger LOGGER = LoggerFactory.getLogger(RlSolveController.class);
 
-    public RlSolveController(QLearningCvrp solver) {
+    public RlSolveController(QLearningCvrp solver, QTableBudget qTableBudget) {
         this.solver = solver;
+        this.qTableBudget = qTableBudget;
     }
 
     @PostMapping("/solve")
     public ResponseEntity<RlSolveResponse> solve(@Valid @RequestBody RlSolveRequest request) {
-        Instance instance = sanitizeInstance(request.instance());
+        Instance instance = request.instance();
         QParams params = request.resolvedParams();
         int customerCount = instance.customers().size();
         int vehicleCount = instance.vehicles().count();
@@ -46,7 +46,15 @@ public class RlSolveController {
                 params.seed(),
                 params.episodes());
         validateVehicles(instance);
-        SolveResult result = solver.solve(instance, params);
+        SolveResult result;
+        if (params.mode() == QMode.TABULAR) {
+            try (QTableBudget.Lease lease = qTableBudget.acquire(params)) {
+                result = solver.solve(instance, lease.params());
+            }
+        } else {
+            // The linear model's memory does not grow with the states seen, so it takes no share.
+            result = solver.solve(instance, params);
+        }
         LOGGER.info(
                 "RL solve completed — feasible={}, distance={}, runtime={}ms, vehiclesUsed={}",
                 result.feasible(),
@@ -71,13 +79,8 @@ public class RlSolveController {
         return "NaN";
     }
 
-    private Instance sanitizeInstance(Instance instance) {
-        List<Customer> copiedCustomers = new ArrayList<>(instance.customers());
-        return new Instance(instance.id(), instance.depot(), copiedCustomers, instance.vehicles());
-    }
-
     private void validateVehicles(Instance instance) {
-        int totalDemand = instance.customers().stream().mapToInt(Customer::demand).sum();
+        int totalDemand = instance.customers().totalDemand();
         if (instance.vehicles().totalCapacity() < totalDemand) {
             // Allow the run but include a warning in solver logs; handled inside solver.
             return;
@@ -0,0 +1,307 @@
+package com.cvrp.island;
+
+import com.cvrp.model.Instance;
+import com.cvrp.model.RoutePlan;
+import com.cvrp.rl.QParams;
+import com.cvrp.util.Stopwatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+// Single-threaded: one selector serves the listening socket and every island, and writes that
+// would block are queued per island.
+public final class IslandCoordinator implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IslandCoordinator.class);
+    private static final long CONNECT_TIMEOUT_MILLIS = 60_000;
+    private static final long DONE_GRACE_MILLIS = 10_000;
+
+    private final Selector selector;
+    private final ServerSocketChannel server;
+
+    public IslandCoordinator(InetSocketAddress bind) throws IOException {
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.bind(bind);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    public int port() throws IOException {
+        return ((InetSocketAddress) server.getLocalAddress()).getPort();
+    }
+
+    // Island i gets islandParams.get(i) in connection order; a target <= 0 disables the early stop.
+    public Outcome run(
+            Instance instance,
+            List<QParams> islandParams,
+            long migrateMillis,
+            long budgetMillis,
+            double target,
+            ToDoubleFunction<List<RoutePlan>> cost) throws IOException {
+        Run run = new Run(islandParams.size(), cost, target);
+        try {
+            Stopwatch connecting = Stopwatch.startNew();
+            while (run.ready < islandParams.size()) {
+                long left = CONNECT_TIMEOUT_MILLIS - connecting.elapsedMillis();
+                if (left <= 0) {
+                    throw new IOException(
+                            "Only " + run.ready + " of " + islandParams.size() + " islands connected");
+                }
+                selector.select(left);
+                handleEvents(run);
+            }
+
+            run.stopwatch = Stopwatch.startNew();
+            for (int i = 0; i < run.islands.size(); i++) {
+                run.islands.get(i).index = i;
+            }
+            for (Island island : run.islands) {
+                send(run, island, IslandMessage.start(
+                        island.index, instance, islandParams.get(island.index), migrateMillis, budgetMillis));
+            }
+
+            long stopAt = -1;
+            while (run.finished < run.islands.size()) {
+                long elapsed = run.stopwatch.elapsedMillis();
+                if (stopAt < 0 && (elapsed >= budgetMillis || run.timeToTarget >= 0)) {
+                    stopAt = elapsed;
+                    for (Island island : run.islands) {
+                        if (!island.finished) {
+                            send(run, island, IslandMessage.stop());
+                        }
+                    }
+                }
+                if (stopAt >= 0 && elapsed - stopAt > DONE_GRACE_MILLIS) {
+                    LOGGER.warn("{} islands did not report after STOP", run.islands.size() - run.finished);
+                    break;
+                }
+                long wait = stopAt < 0 ? budgetMillis - elapsed : DONE_GRACE_MILLIS - (elapsed - stopAt);
+                selector.select(Math.max(1, wait));
+                handleEvents(run);
+            }
+            return new Outcome(
+                    run.bestCost,
+                    run.bestIsland,
+                    run.bestRoutes,
+                    run.timeToTarget,
+                    run.stopwatch.elapsedMillis(),
+                    run.islands.size(),
+                    run.reported,
+                    run.migrations);
+        } finally {
+            for (Island island : run.islands) {
+                island.channel.close();
+            }
+        }
+    }
+
+    private void handleEvents(Run run) throws IOException {
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            if (!key.isValid()) {
+                continue;
+            }
+            if (key.isAcceptable()) {
+                accept(run);
+                continue;
+            }
+            Island island = (Island) key.attachment();
+            try {
+                if (key.isWritable()) {
+                    flush(island);
+                }
+                if (key.isReadable()) {
+                    IslandMessage message;
+                    while ((message = island.reader.poll(island.channel)) != null) {
+                        receive(run, island, message);
+                    }
+                }
+            } catch (IOException e) {
+                drop(run, island, e);
+            }
+        }
+    }
+
+    private void drop(Run run, Island island, IOException cause) throws IOException {
+        if (run.stopwatch == null) {
+            // Not started yet: free the slot so another island can take it.
+            LOGGER.warn("An island disconnected before START: {}", cause.getMessage());
+            run.islands.remove(island);
+            if (island.ready) {
+                run.ready -= 1;
+            }
+        } else if (!island.finished) {
+            LOGGER.warn("Island {} disconnected before reporting: {}", island.index, cause.getMessage());
+            island.finished = true;
+            run.finished += 1;
+        }
+        island.key.cancel();
+        island.channel.close();
+    }
+
+    private void accept(Run run) throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) {
+            return;
+        }
+        if (run.islands.size() >= run.expected) {
+            LOGGER.warn("Rejecting extra island from {}", channel.getRemoteAddress());
+            channel.close();
+            return;
+        }
+        channel.configureBlocking(false);
+        Island island = new Island(run.islands.size(), channel);
+        island.key = channel.register(selector, SelectionKey.OP_READ, island);
+        run.islands.add(island);
+    }
+
+    private void receive(Run run, Island island, IslandMessage message) {
+        switch (message.type()) {
+            case HELLO -> {
+                if (!island.ready) {
+                    island.ready = true;
+                    run.ready += 1;
+                }
+            }
+            case IMPROVED -> offer(run, island, message);
+            case DONE -> {
+                offer(run, island, message);
+                if (!island.finished) {
+                    island.finished = true;
+                    run.finished += 1;
+                    run.reported += 1;
+                }
+            }
+            default -> LOGGER.warn("Island {} sent unexpected {}", island.index, message.type());
+        }
+    }
+
+    private void offer(Run run, Island from, IslandMessage message) {
+        if (!message.feasible() || message.routes() == null || message.routes().isEmpty()) {
+            return;
+        }
+        double cost = run.cost.applyAsDouble(message.routes());
+        if (cost >= run.bestCost - 1e-9) {
+            return;
+        }
+        run.bestCost = cost;
+        run.bestIsland = from.index;
+        run.bestRoutes = message.routes();
+        long elapsed = run.stopwatch.elapsedMillis();
+        if (run.target > 0 && cost <= run.target && run.timeToTarget < 0) {
+            run.timeToTarget = elapsed;
+        }
+        LOGGER.debug("Global best {} from island {} at {} ms", cost, from.index, elapsed);
+        IslandMessage best = IslandMessage.best(from.index, message.distance(), message.routes());
+        for (Island island : run.islands) {
+            if (island != from && !island.finished) {
+                send(run, island, best);
+                run.migrations += 1;
+            }
+        }
+    }
+
+    private void send(Run run, Island island, IslandMessage message) {
+        if (!island.channel.isOpen()) {
+            return;
+        }
+        try {
+            island.outbox.add(IslandWire.encode(message));
+            flush(island);
+        } catch (IOException e) {
+            try {
+                drop(run, island, e);
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+                LOGGER.warn("Failed to close island {}", island.index, e);
+            }
+        }
+    }
+
+    private void flush(Island island) throws IOException {
+        while (!island.outbox.isEmpty()) {
+            ByteBuffer head = island.outbox.peek();
+            island.channel.write(head);
+            if (head.hasRemaining()) {
+                island.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                return;
+            }
+            island.outbox.poll();
+        }
+        island.key.interestOps(SelectionKey.OP_READ);
+    }
+
+    @Override
+    public void close() throws IOException {
+        selector.close();
+        server.close();
+    }
+
+    // timeToTargetMillis is -1 if the target was not reached.
+    public record Outcome(
+            double bestCost,
+            int bestIsland,
+            List<RoutePlan> routes,
+            long timeToTargetMillis,
+            long elapsedMillis,
+            int islands,
+            int islandsReported,
+            int migrations) {
+
+        public boolean feasible() {
+            return !routes.isEmpty();
+        }
+    }
+
+    private static final class Run {
+        private final int expected;
+        private final ToDoubleFunction<List<RoutePlan>> cost;
+        private final double target;
+        private final List<Island> islands = new ArrayList<>();
+        private Stopwatch stopwatch;
+        private int ready;
+        private int finished;
+        private int reported;
+        private int migrations;
+        private double bestCost = Double.POSITIVE_INFINITY;
+        private int bestIsland = -1;
+        private List<RoutePlan> bestRoutes = List.of();
+        private long timeToTarget = -1;
+
+        private Run(int expected, ToDoubleFunction<List<RoutePlan>> cost, double target) {
+            this.expected = expected;
+            this.cost = cost;
+            this.target = target;
+        }
+    }
+
+    private static final class Island {
+        private int index;
+        private final SocketChannel channel;
+        private final IslandWire.FrameReader reader = new IslandWire.FrameReader();
+        private final Deque<ByteBuffer> outbox = new ArrayDeque<>();
+        private SelectionKey key;
+        private boolean ready;
+        private boolean finished;
+
+        private Island(int index, SocketChannel channel) {
+            this.index = index;
+            this.channel = channel;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.cvrp.island;
+
+import com.cvrp.model.Instance;
+import com.cvrp.model.RoutePlan;
+import com.cvrp.rl.QParams;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Only the fields relevant to type are set.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IslandMessage(
+        Type type,
+        int island,
+        Instance instance,
+        QParams params,
+        long migrateMillis,
+        long budgetMillis,
+        int episode,
+        long elapsedMillis,
+        double distance,
+        boolean feasible,
+        List<RoutePlan> routes) {
+
+    public enum Type {
+        HELLO,
+        START,
+        IMPROVED,
+        BEST,
+        STOP,
+        DONE
+    }
+
+    static IslandMessage hello() {
+        return new IslandMessage(Type.HELLO, -1, null, null, 0, 0, 0, 0, 0.0, false, null);
+    }
+
+    static IslandMessage start(
+            int island, Instance instance, QParams params, long migrateMillis, long budgetMillis) {
+        return new IslandMessage(
+                Type.START, island, instance, params, migrateMillis, budgetMillis, 0, 0, 0.0, false, null);
+    }
+
+    static IslandMessage improved(int island, int episode, long elapsedMillis, double distance, List<RoutePlan> routes) {
+        return new IslandMessage(Type.IMPROVED, island, null, null, 0, 0, episode, elapsedMillis, distance, true, routes);
+    }
+
+    static IslandMessage best(int island, double distance, List<RoutePlan> routes) {
+        return new IslandMessage(Type.BEST, island, null, null, 0, 0, 0, 0, distance, true, routes);
+    }
+
+    static IslandMessage stop() {
+        return new IslandMessage(Type.STOP, -1, null, null, 0, 0, 0, 0, 0.0, false, null);
+    }
+
+    static IslandMessage done(int island, int episode, long elapsedMillis, double distance, boolean feasible,
+                              List<RoutePlan> routes) {
+        return new IslandMessage(Type.DONE, island, null, null, 0, 0, episode, elapsedMillis, distance, feasible, routes);
+    }
+}
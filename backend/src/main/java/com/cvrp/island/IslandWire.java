@@ -0,0 +1,80 @@
+package com.cvrp.island;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+// Each frame is a 4-byte big-endian length followed by that many bytes of JSON.
+final class IslandWire {
+    static final int MAX_FRAME_BYTES = 64 << 20;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private IslandWire() {
+    }
+
+    static ByteBuffer encode(IslandMessage message) throws IOException {
+        byte[] body = MAPPER.writeValueAsBytes(message);
+        ByteBuffer frame = ByteBuffer.allocate(4 + body.length);
+        frame.putInt(body.length).put(body).flip();
+        return frame;
+    }
+
+    static IslandMessage decode(ByteBuffer body) throws IOException {
+        return MAPPER.readValue(body.array(), 0, body.limit(), IslandMessage.class);
+    }
+
+    // Blocking channels only.
+    static void write(WritableByteChannel channel, IslandMessage message) throws IOException {
+        ByteBuffer frame = encode(message);
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+
+    // Blocking channels only.
+    static IslandMessage read(ReadableByteChannel channel) throws IOException {
+        FrameReader reader = new FrameReader();
+        IslandMessage message;
+        while ((message = reader.poll(channel)) == null) {
+            // A blocking channel only returns early on a partial frame; keep reading.
+        }
+        return message;
+    }
+
+    static final class FrameReader {
+        private final ByteBuffer header = ByteBuffer.allocate(4);
+        private ByteBuffer body;
+
+        // Null if the channel has no more bytes for now.
+        IslandMessage poll(ReadableByteChannel channel) throws IOException {
+            if (body == null) {
+                if (channel.read(header) < 0) {
+                    throw new EOFException("Island connection closed");
+                }
+                if (header.hasRemaining()) {
+                    return null;
+                }
+                int length = header.flip().getInt();
+                header.clear();
+                if (length < 0 || length > MAX_FRAME_BYTES) {
+                    throw new IOException("Bad island frame length " + length);
+                }
+                body = ByteBuffer.allocate(length);
+            }
+            if (body.hasRemaining() && channel.read(body) < 0) {
+                throw new EOFException("Island connection closed");
+            }
+            if (body.hasRemaining()) {
+                return null;
+            }
+            body.flip();
+            IslandMessage message = decode(body);
+            body = null;
+            return message;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.cvrp.island;
+
+import com.cvrp.model.RoutePlan;
+import com.cvrp.model.SolveResult;
+import com.cvrp.rl.QLearningCvrp;
+import com.cvrp.rl.SolveListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Improvements are sent at most once per migration interval; better global bests are replayed.
+public final class IslandWorker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IslandWorker.class);
+
+    private IslandWorker() {
+    }
+
+    public static SolveResult run(InetSocketAddress coordinator, QLearningCvrp solver) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(coordinator)) {
+            IslandWire.write(channel, IslandMessage.hello());
+            IslandMessage start = IslandWire.read(channel);
+            if (start.type() != IslandMessage.Type.START) {
+                throw new IOException("Expected START from coordinator, got " + start.type());
+            }
+
+            Migration migration = new Migration(channel, start.island(), start.migrateMillis(), start.budgetMillis());
+            Thread reader = Thread.ofPlatform()
+                    .daemon()
+                    .name("island-" + start.island() + "-reader")
+                    .start(() -> migration.receive(channel));
+            SolveResult result = solver.solve(start.instance(), start.params(), migration);
+            migration.flush(result.bestEpisode(), result.runtimeMillis());
+            IslandWire.write(channel, IslandMessage.done(
+                    start.island(),
+                    result.bestEpisode(),
+                    result.runtimeMillis(),
+                    result.distance(),
+                    result.feasible(),
+                    result.routes()));
+            channel.shutdownOutput();
+            try {
+                reader.join(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        }
+    }
+
+    private static final class Migration implements SolveListener {
+        private final SocketChannel channel;
+        private final int island;
+        private final long migrateMillis;
+        private final long budgetMillis;
+        private final AtomicReference<IslandMessage> incoming = new AtomicReference<>();
+        private volatile boolean stopped;
+        private volatile double ownBest = Double.POSITIVE_INFINITY;
+        private List<RoutePlan> unsent;
+        private long lastSentMillis = Long.MIN_VALUE / 2;
+
+        private Migration(SocketChannel channel, int island, long migrateMillis, long budgetMillis) {
+            this.channel = channel;
+            this.island = island;
+            this.migrateMillis = migrateMillis;
+            this.budgetMillis = budgetMillis;
+        }
+
+        @Override
+        public void onImprovement(
+                int episode, long elapsedMillis, double distance, boolean feasible, List<RoutePlan> routes) {
+            if (!feasible) {
+                return;
+            }
+            ownBest = distance;
+            unsent = routes;
+            if (elapsedMillis - lastSentMillis >= migrateMillis) {
+                flush(episode, elapsedMillis);
+            }
+        }
+
+        @Override
+        public boolean shouldContinue(int episode, long elapsedMillis) {
+            if (unsent != null && elapsedMillis - lastSentMillis >= migrateMillis) {
+                flush(episode, elapsedMillis);
+            }
+            return !stopped;
+        }
+
+        @Override
+        public long budgetMillis() {
+            return budgetMillis;
+        }
+
+        @Override
+        public List<RoutePlan> takeMigrant() {
+            IslandMessage migrant = incoming.getAndSet(null);
+            if (migrant == null) {
+                return null;
+            }
+            // The replay reproduces the migrant's distance, so later, worse migrants can be skipped.
+            ownBest = Math.min(ownBest, migrant.distance());
+            return migrant.routes();
+        }
+
+        void flush(int episode, long elapsedMillis) {
+            if (unsent == null) {
+                return;
+            }
+            try {
+                IslandWire.write(channel, IslandMessage.improved(island, episode, elapsedMillis, ownBest, unsent));
+            } catch (IOException e) {
+                LOGGER.warn("Island {} lost its coordinator: {}", island, e.getMessage());
+                stopped = true;
+            }
+            unsent = null;
+            lastSentMillis = elapsedMillis;
+        }
+
+        void receive(SocketChannel channel) {
+            try {
+                while (true) {
+                    IslandMessage message = IslandWire.read(channel);
+                    switch (message.type()) {
+                        case BEST -> {
+                            if (message.island() != island && message.distance() < ownBest - 1e-9) {
+                                incoming.set(message);
+                            }
+                        }
+                        case STOP -> stopped = true;
+                        default -> LOGGER.warn("Island {} ignored unexpected {}", island, message.type());
+                    }
+                }
+            } catch (IOException e) {
+                // Coordinator closed the connection, normally after DONE.
+                stopped = true;
+            }
+        }
+    }
+}
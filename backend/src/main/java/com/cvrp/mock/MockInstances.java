@@ -63,4 +63,28 @@ public final class MockInstances {
         VehiclesConfig vehiclesConfig = new VehiclesConfig(vehicles);
         return new Instance("grid20", depot, List.copyOf(customers), vehiclesConfig);
     }
+
+    // Uniform on a 100x100 square, demands 1..10, capacity-50 vehicles with about 20% spare.
+    public static Instance random(int count, String seed) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be >= 1");
+        }
+        String derivedSeed = seed == null ? "" : seed;
+        SeededRandom random = new SeededRandom("random" + count + "-" + derivedSeed);
+        Depot depot = new Depot(0, 50.0, 50.0);
+        List<Customer> customers = new ArrayList<>(count);
+        int totalDemand = 0;
+        for (int i = 0; i < count; i++) {
+            int demand = 1 + random.nextInt(10);
+            totalDemand += demand;
+            customers.add(new Customer(i + 1, random.nextDouble(0.0, 100.0), random.nextDouble(0.0, 100.0), demand));
+        }
+        int capacity = 50;
+        int fleetSize = Math.max(1, (int) Math.ceil(totalDemand * 1.2 / capacity));
+        List<Vehicle> vehicles = new ArrayList<>(fleetSize);
+        for (int i = 0; i < fleetSize; i++) {
+            vehicles.add(new Vehicle(i, capacity));
+        }
+        return new Instance("random" + count, depot, List.copyOf(customers), new VehiclesConfig(vehicles));
+    }
 }
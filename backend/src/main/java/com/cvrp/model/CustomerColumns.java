@@ -0,0 +1,148 @@
+package com.cvrp.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Index i is customer node i + 1 in the solver's distance matrix; node 0 is the depot.
+@JsonSerialize(using = CustomerColumnsSerializer.class)
+@JsonDeserialize(using = CustomerColumnsDeserializer.class)
+public final class CustomerColumns {
+    private final int[] ids;
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] demands;
+    private final int totalDemand;
+
+    private CustomerColumns(int[] ids, double[] xs, double[] ys, int[] demands) {
+        this.ids = ids;
+        this.xs = xs;
+        this.ys = ys;
+        this.demands = demands;
+        int sum = 0;
+        for (int demand : demands) {
+            sum += demand;
+        }
+        this.totalDemand = sum;
+    }
+
+    public static CustomerColumns of(List<Customer> customers) {
+        Builder builder = new Builder(customers.size());
+        for (Customer customer : customers) {
+            builder.add(customer.id(), customer.x(), customer.y(), customer.demand());
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public int id(int index) {
+        return ids[index];
+    }
+
+    public double x(int index) {
+        return xs[index];
+    }
+
+    public double y(int index) {
+        return ys[index];
+    }
+
+    public int demand(int index) {
+        return demands[index];
+    }
+
+    public int totalDemand() {
+        return totalDemand;
+    }
+
+    public Customer get(int index) {
+        return new Customer(ids[index], xs[index], ys[index], demands[index]);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CustomerColumns that)) {
+            return false;
+        }
+        return Arrays.equals(ids, that.ids)
+                && Arrays.equals(xs, that.xs)
+                && Arrays.equals(ys, that.ys)
+                && Arrays.equals(demands, that.demands);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(ids);
+        result = 31 * result + Arrays.hashCode(xs);
+        result = 31 * result + Arrays.hashCode(ys);
+        return 31 * result + Arrays.hashCode(demands);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerColumns[size=" + ids.length + ", totalDemand=" + totalDemand + "]";
+    }
+
+    public static final class Builder {
+        private int[] ids;
+        private double[] xs;
+        private double[] ys;
+        private int[] demands;
+        private int size;
+
+        public Builder() {
+            this(16);
+        }
+
+        public Builder(int expectedSize) {
+            int capacity = Math.max(1, expectedSize);
+            ids = new int[capacity];
+            xs = new double[capacity];
+            ys = new double[capacity];
+            demands = new int[capacity];
+        }
+
+        public Builder add(int id, double x, double y, int demand) {
+            if (size == ids.length) {
+                int grown = ids.length + (ids.length >> 1) + 1;
+                ids = Arrays.copyOf(ids, grown);
+                xs = Arrays.copyOf(xs, grown);
+                ys = Arrays.copyOf(ys, grown);
+                demands = Arrays.copyOf(demands, grown);
+            }
+            ids[size] = id;
+            xs[size] = x;
+            ys[size] = y;
+            demands[size] = demand;
+            size += 1;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public CustomerColumns build() {
+            if (size == ids.length) {
+                return new CustomerColumns(ids, xs, ys, demands);
+            }
+            return new CustomerColumns(
+                    Arrays.copyOf(ids, size),
+                    Arrays.copyOf(xs, size),
+                    Arrays.copyOf(ys, size),
+                    Arrays.copyOf(demands, size));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.cvrp.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+class CustomerColumnsDeserializer extends JsonDeserializer<CustomerColumns> {
+    private static final int HAS_ID = 1;
+    private static final int HAS_X = 1 << 1;
+    private static final int HAS_Y = 1 << 2;
+    private static final int HAS_DEMAND = 1 << 3;
+    private static final int HAS_ALL = HAS_ID | HAS_X | HAS_Y | HAS_DEMAND;
+
+    @Override
+    public CustomerColumns deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return ctxt.reportInputMismatch(CustomerColumns.class, "customers must be a JSON array");
+        }
+        CustomerColumns.Builder builder = new CustomerColumns.Builder();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                return ctxt.reportInputMismatch(
+                        CustomerColumns.class, "customers[%d] must be an object", builder.size());
+            }
+            readCustomer(parser, ctxt, builder);
+        }
+        return builder.build();
+    }
+
+    private void readCustomer(JsonParser parser, DeserializationContext ctxt, CustomerColumns.Builder builder)
+            throws IOException {
+        int index = builder.size();
+        int seen = 0;
+        int id = 0;
+        double x = 0.0;
+        double y = 0.0;
+        int demand = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> {
+                    id = readInt(parser, ctxt, value, index, field);
+                    seen |= HAS_ID;
+                }
+                case "x" -> {
+                    x = readCoordinate(parser, ctxt, value, index, field);
+                    seen |= HAS_X;
+                }
+                case "y" -> {
+                    y = readCoordinate(parser, ctxt, value, index, field);
+                    seen |= HAS_Y;
+                }
+                case "demand" -> {
+                    demand = readInt(parser, ctxt, value, index, field);
+                    seen |= HAS_DEMAND;
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        if (seen != HAS_ALL) {
+            ctxt.reportInputMismatch(
+                    CustomerColumns.class, "customers[%d] must define id, x, y and demand", index);
+        }
+        if (demand < 0) {
+            ctxt.reportInputMismatch(CustomerColumns.class, "customers[%d].demand must not be negative", index);
+        }
+        builder.add(id, x, y, demand);
+    }
+
+    private int readInt(JsonParser parser, DeserializationContext ctxt, JsonToken token, int index, String field)
+            throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_STRING) {
+            double value = parser.getValueAsDouble(Double.NaN);
+            if (value == Math.rint(value) && Math.abs(value) <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+        }
+        return ctxt.reportInputMismatch(
+                CustomerColumns.class, "customers[%d].%s must be an integer", index, field);
+    }
+
+    private double readCoordinate(
+            JsonParser parser, DeserializationContext ctxt, JsonToken token, int index, String field)
+            throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT
+                || token == JsonToken.VALUE_NUMBER_FLOAT
+                || token == JsonToken.VALUE_STRING) {
+            double value = parser.getValueAsDouble(Double.NaN);
+            if (Double.isFinite(value)) {
+                return value;
+            }
+        }
+        return ctxt.reportInputMismatch(
+                CustomerColumns.class, "customers[%d].%s must be a finite number", index, field);
+    }
+}
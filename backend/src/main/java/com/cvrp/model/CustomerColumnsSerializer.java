@@ -0,0 +1,25 @@
+package com.cvrp.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+class CustomerColumnsSerializer extends JsonSerializer<CustomerColumns> {
+
+    @Override
+    public void serialize(CustomerColumns customers, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartArray(customers, customers.size());
+        for (int i = 0; i < customers.size(); i++) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", customers.id(i));
+            generator.writeNumberField("x", customers.x(i));
+            generator.writeNumberField("y", customers.y(i));
+            generator.writeNumberField("demand", customers.demand(i));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+}
@@ -2,6 +2,7 @@ package com.cvrp.model;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,13 +10,17 @@ import jakarta.validation.constraints.NotNull;
 public record Instance(
         @NotBlank String id,
         @Valid @NotNull Depot depot,
-        @NotNull List<@Valid Customer> customers,
+        @NotNull CustomerColumns customers,
         @Valid @NotNull VehiclesConfig vehicles) {
 
+    @JsonCreator
     public Instance {
-        if ( customers.isEmpty()) {
+        if (customers == null || customers.isEmpty()) {
             throw new IllegalArgumentException("Instance must define at least one customer");
         }
-        customers = List.copyOf(customers);
+    }
+
+    public Instance(String id, Depot depot, List<Customer> customers, VehiclesConfig vehicles) {
+        this(id, depot, CustomerColumns.of(customers), vehicles);
     }
 }
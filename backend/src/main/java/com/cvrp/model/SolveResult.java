@@ -9,5 +9,6 @@ public record SolveResult(
         List<RoutePlan> routes,
         List<String> log,
         long runtimeMillis,
-        int capacityViolations) {
+        int capacityViolations,
+        int bestEpisode) {
 }
@@ -0,0 +1,108 @@
+package com.cvrp.rl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Clock-style eviction: the hand halves visit counters and evicts the first state at zero.
+final class BoundedQTable<K> {
+    private static final int MAX_VISITS = 1 << 16;
+
+    private final long maxEntries;
+    private final double initialValue;
+    private final Map<K, State<K>> states = new HashMap<>();
+    private final List<State<K>> clock = new ArrayList<>();
+    private State<K> previous;
+    private int hand;
+    private long entries;
+    private long evictions;
+
+    BoundedQTable(long maxEntries) {
+        this(maxEntries, 0.0);
+    }
+
+    BoundedQTable(long maxEntries, double initialValue) {
+        this.maxEntries = maxEntries;
+        this.initialValue = initialValue;
+    }
+
+    Map<Integer, Double> values(K key, List<Integer> actions) {
+        State<K> state = states.get(key);
+        if (state == null) {
+            state = new State<>(key, clock.size());
+            states.put(key, state);
+            clock.add(state);
+        }
+        if (state.visits < MAX_VISITS) {
+            state.visits += 1;
+        }
+        for (int action : actions) {
+            if (state.values.putIfAbsent(action, initialValue) == null) {
+                entries += 1;
+            }
+        }
+        if (maxEntries > 0 && entries > maxEntries) {
+            evictUntilWithinCap(state);
+        }
+        previous = state;
+        return state.values;
+    }
+
+    long entries() {
+        return entries;
+    }
+
+    int states() {
+        return states.size();
+    }
+
+    long evictions() {
+        return evictions;
+    }
+
+    // The previous lookup is pinned too: its values are updated after the next state is looked up.
+    private void evictUntilWithinCap(State<K> keep) {
+        State<K> pinned = previous != null && previous.slot >= 0 && previous != keep ? previous : null;
+        int protectedStates = pinned == null ? 1 : 2;
+        while (entries > maxEntries && clock.size() > protectedStates) {
+            if (hand >= clock.size()) {
+                hand = 0;
+            }
+            State<K> candidate = clock.get(hand);
+            boolean evictable = candidate != keep && candidate != pinned;
+            if (evictable && candidate.visits == 0) {
+                remove(candidate);
+                continue;
+            }
+            if (evictable) {
+                candidate.visits >>>= 1;
+            }
+            hand += 1;
+        }
+    }
+
+    private void remove(State<K> state) {
+        int last = clock.size() - 1;
+        State<K> moved = clock.get(last);
+        clock.set(state.slot, moved);
+        moved.slot = state.slot;
+        clock.remove(last);
+        state.slot = -1;
+        states.remove(state.key);
+        entries -= state.values.size();
+        evictions += 1;
+    }
+
+    private static final class State<K> {
+        private final K key;
+        private final Map<Integer, Double> values = new HashMap<>();
+        private int slot;
+        private int visits;
+
+        private State(K key, int slot) {
+            this.key = key;
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.cvrp.rl;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+// How QLearningCvrp explores; DEFAULT is plain epsilon-greedy with uniform exploration and ties.
+// Softmax weights steps by exp(-(d - dNearest) / (temperature * dMean)); decay anneals epsilon to
+// epsilonEnd over decayEpisodes, the episode budget, or the time budget when episodes are unbounded.
+public record Exploration(
+        Strategy strategy,
+        Double temperature,
+        Decay decay,
+        Double epsilonEnd,
+        int decayEpisodes,
+        WarmStart warmStart) {
+
+    public static final Exploration DEFAULT = new Exploration(null, null, null, null, 0, null);
+
+    @JsonCreator
+    public Exploration {
+        if (strategy == null) {
+            strategy = Strategy.UNIFORM;
+        }
+        if (temperature == null) {
+            temperature = 0.2;
+        }
+        if (decay == null) {
+            decay = Decay.CONSTANT;
+        }
+        if (epsilonEnd == null) {
+            epsilonEnd = 0.01;
+        }
+        if (warmStart == null) {
+            warmStart = WarmStart.NONE;
+        }
+        if (temperature <= 0) {
+            throw new IllegalArgumentException("temperature must be positive");
+        }
+        if (epsilonEnd < 0 || epsilonEnd > 1) {
+            throw new IllegalArgumentException("epsilonEnd must be in [0, 1]");
+        }
+        if (decay == Decay.EXPONENTIAL && epsilonEnd == 0) {
+            throw new IllegalArgumentException("exponential decay needs a positive epsilonEnd");
+        }
+        if (decayEpisodes < 0) {
+            throw new IllegalArgumentException("decayEpisodes must not be negative");
+        }
+    }
+
+    // Solves with unbounded episodes (Integer.MAX_VALUE) and no decayEpisodes anneal over time.
+    boolean decaysOverTime(int episodes) {
+        return decay != Decay.CONSTANT && decayEpisodes == 0 && episodes == Integer.MAX_VALUE;
+    }
+
+    // Share of the decay horizon done before 1-based episode, in [0, 1].
+    double progress(int episode, int episodes, long elapsedMillis, long budgetMillis) {
+        if (decaysOverTime(episodes)) {
+            return budgetMillis <= 0 ? 1.0 : Math.min(1.0, elapsedMillis / (double) budgetMillis);
+        }
+        int horizon = decayEpisodes > 0 ? decayEpisodes : episodes;
+        return horizon <= 1 ? 1.0 : Math.min(1.0, (episode - 1) / (double) (horizon - 1));
+    }
+
+    double epsilonAt(double epsilon, double progress) {
+        if (decay == Decay.CONSTANT || epsilon <= epsilonEnd) {
+            return epsilon;
+        }
+        return switch (decay) {
+            case LINEAR -> epsilon + (epsilonEnd - epsilon) * progress;
+            case EXPONENTIAL -> epsilon * Math.pow(epsilonEnd / epsilon, progress);
+            case CONSTANT -> epsilon;
+        };
+    }
+
+    public enum Strategy {
+        UNIFORM,
+        // Boltzmann over step distances, biased to the nearest neighbour.
+        SOFTMAX;
+
+        @JsonCreator
+        public static Strategy parse(String value) {
+            return Exploration.parse(Strategy.class, value, UNIFORM);
+        }
+
+        @JsonValue
+        public String id() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public enum Decay {
+        CONSTANT,
+        LINEAR,
+        EXPONENTIAL;
+
+        @JsonCreator
+        public static Decay parse(String value) {
+            return Exploration.parse(Decay.class, value, CONSTANT);
+        }
+
+        @JsonValue
+        public String id() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public enum WarmStart {
+        NONE,
+        // Clarke-Wright parallel savings.
+        SAVINGS;
+
+        @JsonCreator
+        public static WarmStart parse(String value) {
+            return Exploration.parse(WarmStart.class, value, NONE);
+        }
+
+        @JsonValue
+        public String id() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, E fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName().toLowerCase(Locale.ROOT) + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.cvrp.rl;
+
+import com.cvrp.model.VehiclesConfig;
+
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+// Dispatch order is largest capacity first, ties in fleet order.
+final class FleetClasses {
+    private final int[] vehicleIdx;
+    private final int[] capacity;
+    private final int[] classIdx;
+    private final int[] leftInClass;
+    private final int classCount;
+
+    private FleetClasses(int[] vehicleIdx, int[] capacity, int[] classIdx, int[] leftInClass, int classCount) {
+        this.vehicleIdx = vehicleIdx;
+        this.capacity = capacity;
+        this.classIdx = classIdx;
+        this.leftInClass = leftInClass;
+        this.classCount = classCount;
+    }
+
+    static FleetClasses of(VehiclesConfig vehicles) {
+        int count = vehicles.count();
+        int[] order = IntStream.range(0, count)
+                .boxed()
+                .sorted(Comparator.comparingInt((Integer idx) -> vehicles.capacityOf(idx)).reversed()
+                        .thenComparingInt(idx -> idx))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        int[] capacity = new int[count];
+        int[] classIdx = new int[count];
+        int classes = 0;
+        for (int slot = 0; slot < count; slot++) {
+            capacity[slot] = vehicles.capacityOf(order[slot]);
+            if (slot > 0 && capacity[slot] != capacity[slot - 1]) {
+                classes += 1;
+            }
+            classIdx[slot] = classes;
+        }
+        int[] leftInClass = new int[count];
+        for (int slot = count - 1; slot >= 0; slot--) {
+            boolean sameAsNext = slot + 1 < count && classIdx[slot + 1] == classIdx[slot];
+            leftInClass[slot] = sameAsNext ? leftInClass[slot + 1] + 1 : 1;
+        }
+        return new FleetClasses(order, capacity, classIdx, leftInClass, classes + 1);
+    }
+
+    int slots() {
+        return vehicleIdx.length;
+    }
+
+    int classCount() {
+        return classCount;
+    }
+
+    int vehicleIdx(int slot) {
+        return vehicleIdx[slot];
+    }
+
+    int capacity(int slot) {
+        return capacity[slot];
+    }
+
+    int classIdx(int slot) {
+        return classIdx[slot];
+    }
+
+    // Vehicles of this class still available, on a log2 scale (1, 2, 3-4, 5-8, ...).
+    int leftInClassBucket(int slot) {
+        return 32 - Integer.numberOfLeadingZeros(leftInClass[slot] - 1);
+    }
+}
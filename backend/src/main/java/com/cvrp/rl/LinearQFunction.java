@@ -0,0 +1,136 @@
+package com.cvrp.rl;
+
+import com.cvrp.model.CustomerColumns;
+import com.cvrp.model.Instance;
+
+import java.util.List;
+import java.util.Locale;
+
+// Linear Q(s, a) = w . phi(s, a), trained with normalised LMS; memory does not grow with states.
+final class LinearQFunction implements QFunction {
+    private static final int BIAS = 0;
+    private static final int RETURN = 1;
+    private static final int STEP_DISTANCE = 2;
+    private static final int DEMAND_RATIO = 3;
+    private static final int ANGLE_GAP = 4;
+    private static final int REMAINING_FRACTION = 5;
+    private static final int VEHICLE_SLACK = 6;
+    private static final int DEPOT_DISTANCE = 7;
+    private static final int FEATURES = 8;
+
+    private final double[][] distanceMatrix;
+    private final int[] demand;
+    private final double[] angle;
+    private final int customerCount;
+    private final double distanceScale;
+    private final double[] weights = new double[FEATURES];
+    private final double[] features = new double[FEATURES];
+    private long updates;
+
+    // initialValue seeds the bias weight, so the untrained model predicts it everywhere.
+    LinearQFunction(Instance instance, double[][] distanceMatrix, double initialValue) {
+        CustomerColumns customers = instance.customers();
+        this.distanceMatrix = distanceMatrix;
+        this.customerCount = customers.size();
+        this.demand = new int[customerCount + 1];
+        this.angle = new double[customerCount + 1];
+        double depotX = instance.depot().x();
+        double depotY = instance.depot().y();
+        double farthest = 0.0;
+        for (int node = 1; node <= customerCount; node++) {
+            demand[node] = customers.demand(node - 1);
+            angle[node] = Math.atan2(customers.y(node - 1) - depotY, customers.x(node - 1) - depotX);
+            farthest = Math.max(farthest, distanceMatrix[0][node]);
+        }
+        // Every pairwise distance is bounded by twice the farthest customer from the depot.
+        this.distanceScale = farthest > 0.0 ? 2.0 * farthest : 1.0;
+        this.weights[BIAS] = initialValue;
+    }
+
+    @Override
+    public ActionValues lookup(QState state, List<Integer> actions) {
+        return new LinearValues(state, actions);
+    }
+
+    int weightCount() {
+        return weights.length;
+    }
+
+    @Override
+    public String summary() {
+        StringBuilder builder = new StringBuilder("Linear Q: ")
+                .append(FEATURES)
+                .append(" weights, ")
+                .append(updates)
+                .append(" updates, w=[");
+        for (int i = 0; i < FEATURES; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(String.format(Locale.US, "%.3f", weights[i]));
+        }
+        return builder.append(']').toString();
+    }
+
+    private void fillFeatures(QState state, int action, double[] out) {
+        int from = state.currentNode();
+        boolean toDepot = action == QLearningCvrp.RETURN_TO_DEPOT;
+        int to = toDepot ? 0 : action;
+        out[BIAS] = 1.0;
+        out[RETURN] = toDepot ? 1.0 : 0.0;
+        out[STEP_DISTANCE] = distanceMatrix[from][to] / distanceScale;
+        out[DEMAND_RATIO] = toDepot ? 0.0 : (double) demand[to] / Math.max(1, state.remainingCapacity());
+        out[ANGLE_GAP] = from == 0 || to == 0 ? 0.0 : (1.0 - Math.cos(angle[from] - angle[to])) / 2.0;
+        out[REMAINING_FRACTION] = (double) state.remainingCustomers() / Math.max(1, customerCount);
+        out[VEHICLE_SLACK] = (double) Math.max(0, state.remainingCapacity()) / Math.max(1, state.vehicleCapacity());
+        out[DEPOT_DISTANCE] = distanceMatrix[to][0] / distanceScale;
+    }
+
+    private double dot(double[] phi) {
+        double sum = 0.0;
+        for (int i = 0; i < FEATURES; i++) {
+            sum += weights[i] * phi[i];
+        }
+        return sum;
+    }
+
+    private final class LinearValues implements ActionValues {
+        private final QState state;
+        private final List<Integer> actions;
+
+        private LinearValues(QState state, List<Integer> actions) {
+            this.state = state;
+            this.actions = actions;
+        }
+
+        @Override
+        public double value(int actionIdx) {
+            fillFeatures(state, actions.get(actionIdx), features);
+            return dot(features);
+        }
+
+        @Override
+        public double max() {
+            double best = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < actions.size(); i++) {
+                best = Math.max(best, value(i));
+            }
+            return actions.isEmpty() ? 0.0 : best;
+        }
+
+        @Override
+        public void update(int actionIdx, double target, double alpha) {
+            fillFeatures(state, actions.get(actionIdx), features);
+            double error = target - dot(features);
+            double norm = 0.0;
+            for (int i = 0; i < FEATURES; i++) {
+                norm += features[i] * features[i];
+            }
+            double step = alpha * error / norm;
+            for (int i = 0; i < FEATURES; i++) {
+                weights[i] += step * features[i];
+            }
+            updates += 1;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.cvrp.rl;
+
+import java.util.List;
+
+// A fresh instance is created per solve, so implementations need not be thread-safe.
+interface QFunction {
+
+    // Counts as one visit of the state.
+    ActionValues lookup(QState state, List<Integer> actions);
+
+    String summary();
+
+    interface ActionValues {
+
+        double value(int actionIdx);
+
+        double max();
+
+        void update(int actionIdx, double target, double alpha);
+    }
+}
@@ -1,6 +1,6 @@
 package com.cvrp.rl;
 
-import com.cvrp.model.Customer;
+import com.cvrp.model.CustomerColumns;
 import com.cvrp.model.Instance;
 import com.cvrp.model.RoutePlan;
 import com.cvrp.model.SolveResult;
@@ -14,51 +14,133 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 @Service
 public class QLearningCvrp {
-    private static final int RETURN_TO_DEPOT = -1;
+    static final int RETURN_TO_DEPOT = -1;
     private static final Logger LOGGER = LoggerFactory.getLogger(QLearningCvrp.class);
 
     public SolveResult solve(Instance instance, QParams params) {
+        return solve(instance, params, SolveListener.NONE);
+    }
+
+    public SolveResult solve(Instance instance, QParams params, SolveListener listener) {
         double[][] distanceMatrix = Distance.buildMatrix(instance);
         SeededRandom rng = new SeededRandom(params.seed());
         Stopwatch stopwatch = Stopwatch.startNew();
-        Map<StateKey, Map<Integer, Double>> qTable = new HashMap<>();
+        FleetClasses fleet = FleetClasses.of(instance.vehicles());
+        Exploration exploration = params.exploration();
+        if (exploration.decaysOverTime(params.episodes()) && listener.budgetMillis() <= 0) {
+            throw new IllegalArgumentException(
+                    "Epsilon decay over unbounded episodes needs decayEpisodes or a listener time budget");
+        }
+        List<RoutePlan> warmStart = exploration.warmStart() == Exploration.WarmStart.SAVINGS
+                ? SavingsHeuristic.solve(instance, distanceMatrix, fleet)
+                : List.of();
+        double initialQ = warmStart.isEmpty() ? 0.0 : savingsQualityReturn(warmStart, params.gamma());
+        QFunction qFunction = params.mode() == QMode.LINEAR
+                ? new LinearQFunction(instance, distanceMatrix, initialQ)
+                : new TabularQFunction(params, initialQ);
         List<String> log = new ArrayList<>();
         double bestFeasibleDistance = Double.POSITIVE_INFINITY;
         List<RoutePlan> bestFeasibleRoutes = Collections.emptyList();
         int bestFeasibleVehicles = 0;
+        int bestFeasibleEpisode = 0;
         double bestAttemptDistance = Double.POSITIVE_INFINITY;
         List<RoutePlan> bestAttemptRoutes = Collections.emptyList();
         int bestAttemptVehicles = 0;
+        int bestAttemptEpisode = 0;
+        int migrantsReplayed = 0;
 
-        int totalDemand = instance.customers().stream().mapToInt(Customer::demand).sum();
+        int totalDemand = instance.customers().totalDemand();
         int totalCapacity = instance.vehicles().totalCapacity();
         if (totalCapacity < totalDemand) {
             log.add("Warning: total vehicle capacity " + totalCapacity + " < total demand " + totalDemand);
         }
 
+        log.add("Fleet: " + fleet.slots() + " vehicles in " + fleet.classCount() + " capacity classes");
+
+        if (exploration.warmStart() == Exploration.WarmStart.SAVINGS) {
+            if (warmStart.isEmpty()) {
+                log.add("Warm start: no savings plan fits the fleet");
+            } else {
+                EpisodeResult seeded = runEpisode(
+                        instance,
+                        params,
+                        distanceMatrix,
+                        fleet,
+                        rng,
+                        qFunction,
+                        forcedActions(instance, warmStart),
+                        params.epsilon());
+                log.add(String.format(
+                        "Warm start: savings plan distance %.2f, initial Q %.2f", seeded.totalDistance(), initialQ));
+                if (seeded.feasible()) {
+                    bestFeasibleDistance = seeded.totalDistance();
+                    bestFeasibleRoutes = seeded.routes();
+                    bestFeasibleVehicles = seeded.vehiclesUsed();
+                    listener.onImprovement(
+                            0, stopwatch.elapsedMillis(), seeded.totalDistance(), true, seeded.routes());
+                }
+            }
+        }
+
         for (int episode = 1; episode <= params.episodes(); episode++) {
-            EpisodeResult result = runEpisode(instance, params, distanceMatrix, rng, qTable);
+            double epsilon = exploration.epsilonAt(params.epsilon(), exploration.progress(
+                    episode, params.episodes(), stopwatch.elapsedMillis(), listener.budgetMillis()));
+            EpisodeResult result = runEpisode(
+                    instance, params, distanceMatrix, fleet, rng, qFunction, null, epsilon);
+            boolean improved = false;
             if (result.feasible() && result.totalDistance() < bestFeasibleDistance) {
                 bestFeasibleDistance = result.totalDistance();
                 bestFeasibleRoutes = result.routes();
                 bestFeasibleVehicles = result.vehiclesUsed();
+                bestFeasibleEpisode = episode;
+                improved = true;
             }
             if (result.totalDistance() < bestAttemptDistance) {
                 bestAttemptDistance = result.totalDistance();
                 bestAttemptRoutes = result.routes();
                 bestAttemptVehicles = result.vehiclesUsed();
+                bestAttemptEpisode = episode;
+                improved = improved || bestFeasibleRoutes.isEmpty();
             }
             if (episode == 1
                     || episode % 50 == 0
                     || (result.feasible() && result.totalDistance() <= bestFeasibleDistance)) {
                 log.add("Episode " + episode + " best distance " + String.format("%.2f", bestAttemptDistance));
             }
+            if (improved) {
+                listener.onImprovement(
+                        episode, stopwatch.elapsedMillis(), result.totalDistance(), result.feasible(), result.routes());
+            }
+            if (!listener.shouldContinue(episode, stopwatch.elapsedMillis())) {
+                log.add("Stopped by listener after episode " + episode);
+                break;
+            }
+            List<RoutePlan> migrant = listener.takeMigrant();
+            if (migrant != null && !migrant.isEmpty()) {
+                EpisodeResult replay = runEpisode(
+                        instance,
+                        params,
+                        distanceMatrix,
+                        fleet,
+                        rng,
+                        qFunction,
+                        forcedActions(instance, migrant),
+                        params.epsilon());
+                migrantsReplayed += 1;
+                if (replay.feasible() && replay.totalDistance() < bestFeasibleDistance) {
+                    bestFeasibleDistance = replay.totalDistance();
+                    bestFeasibleRoutes = replay.routes();
+                    bestFeasibleVehicles = replay.vehiclesUsed();
+                    bestFeasibleEpisode = episode;
+                }
+            }
         }
 
         long runtime = stopwatch.elapsedMillis();
@@ -67,11 +149,16 @@ public class QLearningCvrp {
         List<RoutePlan> chosenRoutes = feasible ? bestFeasibleRoutes : bestAttemptRoutes;
         double distance = feasible ? bestFeasibleDistance : bestAttemptDistance;
         int vehiclesUsed = feasible ? bestFeasibleVehicles : bestAttemptVehicles;
+        int bestEpisode = feasible ? bestFeasibleEpisode : bestAttemptEpisode;
         if (Double.isInfinite(distance)) {
             distance = Double.NaN;
         }
 
         log.add("Runtime: " + runtime + " ms");
+        if (migrantsReplayed > 0) {
+            log.add("Migrants replayed: " + migrantsReplayed);
+        }
+        log.add(qFunction.summary());
 
         int capacityViolations = computeCapacityViolations(chosenRoutes, instance.vehicles());
         LOGGER.info(
@@ -81,24 +168,33 @@ public class QLearningCvrp {
                 runtime,
                 vehiclesUsed,
                 instance.id());
-        return new SolveResult(distance, feasible, vehiclesUsed, chosenRoutes, List.copyOf(log), runtime, capacityViolations);
+        return new SolveResult(
+                distance,
+                feasible,
+                vehiclesUsed,
+                chosenRoutes,
+                List.copyOf(log),
+                runtime,
+                capacityViolations,
+                bestEpisode);
     }
 
     private EpisodeResult runEpisode(
             Instance instance,
             QParams params,
             double[][] distanceMatrix,
+            FleetClasses fleet,
             SeededRandom rng,
-            Map<StateKey, Map<Integer, Double>> qTable) {
-        List<Customer> customers = instance.customers();
+            QFunction qFunction,
+            int[] forced,
+            double epsilon) {
+        CustomerColumns customers = instance.customers();
         int customerCount = customers.size();
-        VehiclesConfig vehiclesConfig = instance.vehicles();
         boolean[] served = new boolean[customerCount + 1];
         int servedCount = 0;
         int currentNode = 0;
-        int vehicleIdx = 0;
-        int remainingCapacity = vehiclesConfig.capacityOf(vehicleIdx);
-        int bucketSize = Math.max(1, params.bucketSize());
+        int slot = 0;
+        int remainingCapacity = fleet.capacity(slot);
         List<RoutePlan> routes = new ArrayList<>();
         List<Integer> currentRouteNodes = new ArrayList<>();
         int depotId = instance.depot().id();
@@ -107,6 +203,7 @@ public class QLearningCvrp {
         double currentRouteDistance = 0.0;
         double totalDistance = 0.0;
         boolean feasible = true;
+        int forcedPos = 0;
 
         for (int step = 0; step < params.maxSteps(); step++) {
             int remainingCustomers = customerCount - servedCount;
@@ -118,17 +215,28 @@ public class QLearningCvrp {
                 break;
             }
 
-            StateKey state = new StateKey(
+            QState state = new QState(
                     currentNode,
-                    Math.max(0, remainingCapacity) / bucketSize,
-                    remainingCustomers / bucketSize,
-                    vehicleIdx);
-            Map<Integer, Double> qValues = qTable.computeIfAbsent(state, key -> new HashMap<>());
-            for (int action : actions) {
-                qValues.putIfAbsent(action, 0.0);
-            }
+                    remainingCapacity,
+                    fleet.capacity(slot),
+                    remainingCustomers,
+                    fleet.classIdx(slot),
+                    fleet.leftInClassBucket(slot));
+            QFunction.ActionValues qValues = qFunction.lookup(state, actions);
 
-            int chosenAction = chooseAction(actions, qValues, params.epsilon(), rng);
+            int chosenIdx = -1;
+            if (forced != null && forcedPos < forced.length) {
+                chosenIdx = actions.indexOf(forced[forcedPos++]);
+                if (chosenIdx < 0) {
+                    // The plan does not fit this fleet from here on; let the policy finish the episode.
+                    forced = null;
+                }
+            }
+            if (chosenIdx < 0) {
+                chosenIdx = chooseAction(
+                        actions, qValues, epsilon, params.exploration(), distanceMatrix[currentNode], rng);
+            }
+            int chosenAction = actions.get(chosenIdx);
             double reward;
             boolean terminal = false;
 
@@ -144,7 +252,7 @@ public class QLearningCvrp {
                 }
                 if (currentRouteNodes.size() > 1) {
                     routes.add(new RoutePlan(
-                            vehicleIdx + 1,
+                            fleet.vehicleIdx(slot) + 1,
                             List.copyOf(currentRouteNodes),
                             currentRouteLoad,
                             currentRouteDistance));
@@ -156,56 +264,53 @@ public class QLearningCvrp {
                 currentRouteDistance = 0.0;
                 if (servedCount == customerCount) {
                     terminal = true;
-                } else if (vehicleIdx + 1 >= vehiclesConfig.count()) {
+                } else if (slot + 1 >= fleet.slots()) {
                     feasible = false;
                     terminal = true;
                 } else {
-                    vehicleIdx += 1;
-                    remainingCapacity = vehiclesConfig.capacityOf(vehicleIdx);
+                    slot += 1;
+                    remainingCapacity = fleet.capacity(slot);
                 }
             } else {
                 int customerIndex = chosenAction;
-                Customer customer = customers.get(customerIndex - 1);
+                int demand = customers.demand(customerIndex - 1);
                 double added = distanceMatrix[currentNode][customerIndex];
                 reward = -added;
                 totalDistance += added;
                 currentRouteDistance += added;
                 currentNode = customerIndex;
-                currentRouteNodes.add(customer.id());
+                currentRouteNodes.add(customers.id(customerIndex - 1));
                 served[customerIndex] = true;
                 servedCount += 1;
-                remainingCapacity -= customer.demand();
-                currentRouteLoad += customer.demand();
+                remainingCapacity -= demand;
+                currentRouteLoad += demand;
                 if (servedCount == customerCount) {
                     reward += 10.0;
                 }
             }
 
-            StateKey nextState = new StateKey(
+            QState nextState = new QState(
                     currentNode,
-                    Math.max(0, remainingCapacity) / bucketSize,
-                    (customerCount - servedCount) / bucketSize,
-                    vehicleIdx);
+                    remainingCapacity,
+                    fleet.capacity(slot),
+                    customerCount - servedCount,
+                    fleet.classIdx(slot),
+                    fleet.leftInClassBucket(slot));
 
             double nextMax = 0.0;
             if (!terminal) {
                 boolean nextMustReturn = (customerCount - servedCount) == 0 && currentNode != 0;
                 List<Integer> nextActions = computeActions(currentNode, remainingCapacity, served, customers, nextMustReturn);
-                Map<Integer, Double> nextValues = qTable.computeIfAbsent(nextState, key -> new HashMap<>());
-                for (int action : nextActions) {
-                    nextValues.putIfAbsent(action, 0.0);
-                }
+                QFunction.ActionValues nextValues = qFunction.lookup(nextState, nextActions);
                 if (!nextActions.isEmpty()) {
-                    nextMax = nextValues.values().stream().mapToDouble(Double::doubleValue).max().orElse(0.0);
+                    nextMax = nextValues.max();
                 } else {
                     terminal = true;
                     feasible = feasible && (customerCount - servedCount) == 0 && currentNode == 0;
                 }
             }
 
-            double currentQ = qValues.getOrDefault(chosenAction, 0.0);
-            double updatedQ = currentQ + params.alpha() * (reward + params.gamma() * nextMax - currentQ);
-            qValues.put(chosenAction, updatedQ);
+            qValues.update(chosenIdx, reward + params.gamma() * nextMax, params.alpha());
 
             if (terminal) {
                 break;
@@ -221,7 +326,11 @@ public class QLearningCvrp {
                 }
                 currentRouteNodes.add(depotId);
             }
-            routes.add(new RoutePlan(vehicleIdx + 1, List.copyOf(currentRouteNodes), currentRouteLoad, currentRouteDistance));
+            routes.add(new RoutePlan(
+                    fleet.vehicleIdx(slot) + 1,
+                    List.copyOf(currentRouteNodes),
+                    currentRouteLoad,
+                    currentRouteDistance));
         }
 
         feasible = feasible && servedCount == customerCount;
@@ -232,7 +341,7 @@ public class QLearningCvrp {
             int currentNode,
             int remainingCapacity,
             boolean[] served,
-            List<Customer> customers,
+            CustomerColumns customers,
             boolean mustReturn) {
         List<Integer> actions = new ArrayList<>();
         if (!mustReturn) {
@@ -240,8 +349,7 @@ public class QLearningCvrp {
                 if (served[idx]) {
                     continue;
                 }
-                Customer customer = customers.get(idx - 1);
-                if (customer.demand() <= remainingCapacity) {
+                if (customers.demand(idx - 1) <= remainingCapacity) {
                     actions.add(idx);
                 }
             }
@@ -257,30 +365,115 @@ public class QLearningCvrp {
         return actions;
     }
 
-    private int chooseAction(List<Integer> actions, Map<Integer, Double> qValues, double epsilon, SeededRandom rng) {
+    // The action sequence that reproduces routes, in the order they were driven.
+    private int[] forcedActions(Instance instance, List<RoutePlan> routes) {
+        CustomerColumns customers = instance.customers();
+        Map<Integer, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < customers.size(); i++) {
+            indexById.put(customers.id(i), i + 1);
+        }
+        int depotId = instance.depot().id();
+        List<Integer> actions = new ArrayList<>();
+        for (RoutePlan route : routes) {
+            List<Integer> nodes = route.nodes();
+            for (int i = 1; i < nodes.size(); i++) {
+                int node = nodes.get(i);
+                actions.add(node == depotId ? RETURN_TO_DEPOT : indexById.getOrDefault(node, Integer.MIN_VALUE));
+            }
+        }
+        return actions.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // Exploratory moves and greedy ties are uniform, or distance-weighted under SOFTMAX.
+    private int chooseAction(
+            List<Integer> actions,
+            QFunction.ActionValues qValues,
+            double epsilon,
+            Exploration exploration,
+            double[] distances,
+            SeededRandom rng) {
         if (actions.isEmpty()) {
             throw new IllegalStateException("No actions available");
         }
+        boolean softmax = exploration.strategy() == Exploration.Strategy.SOFTMAX;
         if (rng.nextDouble() < epsilon) {
-            return actions.get(rng.nextInt(actions.size()));
+            if (softmax) {
+                List<Integer> all = new ArrayList<>(actions.size());
+                for (int i = 0; i < actions.size(); i++) {
+                    all.add(i);
+                }
+                return nearestBiased(all, actions, distances, exploration.temperature(), rng);
+            }
+            return rng.nextInt(actions.size());
         }
         double bestValue = Double.NEGATIVE_INFINITY;
-        List<Integer> bestActions = new ArrayList<>();
-        for (int action : actions) {
-            double value = qValues.getOrDefault(action, 0.0);
+        List<Integer> bestIdx = new ArrayList<>();
+        for (int i = 0; i < actions.size(); i++) {
+            double value = qValues.value(i);
             if (value > bestValue + 1e-9) {
                 bestValue = value;
-                bestActions.clear();
-                bestActions.add(action);
+                bestIdx.clear();
+                bestIdx.add(i);
             } else if (Math.abs(value - bestValue) <= 1e-9) {
-                bestActions.add(action);
+                bestIdx.add(i);
             }
         }
-        if (bestActions.isEmpty()) {
-            return actions.get(0);
+        if (bestIdx.isEmpty()) {
+            return 0;
+        }
+        bestIdx.sort(Comparator.comparingInt(actions::get));
+        if (softmax && bestIdx.size() > 1) {
+            return nearestBiased(bestIdx, actions, distances, exploration.temperature(), rng);
         }
-        Collections.sort(bestActions);
-        return bestActions.get(rng.nextInt(bestActions.size()));
+        return bestIdx.get(rng.nextInt(bestIdx.size()));
+    }
+
+    // Weights candidates (indices into actions) by exp(-(d - dNearest) / (temperature * dMean)).
+    static int nearestBiased(
+            List<Integer> candidates,
+            List<Integer> actions,
+            double[] distances,
+            double temperature,
+            SeededRandom rng) {
+        double[] weights = new double[candidates.size()];
+        double nearest = Double.POSITIVE_INFINITY;
+        double mean = 0.0;
+        for (int i = 0; i < candidates.size(); i++) {
+            int action = actions.get(candidates.get(i));
+            weights[i] = distances[action == RETURN_TO_DEPOT ? 0 : action];
+            nearest = Math.min(nearest, weights[i]);
+            mean += weights[i] / candidates.size();
+        }
+        double scale = temperature * mean;
+        if (scale <= 0.0) {
+            return candidates.get(rng.nextInt(candidates.size()));
+        }
+        double total = 0.0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Math.exp(-(weights[i] - nearest) / scale);
+            total += weights[i];
+        }
+        double ticket = rng.nextDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            ticket -= weights[i];
+            if (ticket < 0.0) {
+                return candidates.get(i);
+            }
+        }
+        return candidates.get(candidates.size() - 1);
+    }
+
+    // Return of a policy with the warm-start plan's average step length; unseen Q-values start here so
+    // anything worse than savings quality looks worse than untried actions.
+    private static double savingsQualityReturn(List<RoutePlan> plan, double gamma) {
+        int steps = 0;
+        double distance = 0.0;
+        for (RoutePlan route : plan) {
+            steps += route.nodes().size() - 1;
+            distance += route.distance();
+        }
+        double horizon = gamma < 1.0 ? (1.0 - Math.pow(gamma, steps)) / (1.0 - gamma) : steps;
+        return -(distance / Math.max(1, steps)) * horizon;
     }
 
     private int computeCapacityViolations(List<RoutePlan> routes, VehiclesConfig vehiclesConfig) {
@@ -298,9 +491,6 @@ public class QLearningCvrp {
         return violations;
     }
 
-    private record StateKey(int currentNode, int capacityBucket, int remainingBucket, int vehicleIdx) {
-    }
-
     private record EpisodeResult(double totalDistance, boolean feasible, List<RoutePlan> routes, int vehiclesUsed) {
     }
 
@@ -0,0 +1,28 @@
+package com.cvrp.rl;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+public enum QMode {
+    TABULAR,
+    LINEAR;
+
+    @JsonCreator
+    public static QMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return TABULAR;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown Q mode: " + value);
+        }
+    }
+
+    @JsonValue
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,8 +1,10 @@
 package com.cvrp.rl;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
+// maxQEntries 0 leaves the Q-table unbounded.
 public record QParams(
         @Min(1) int episodes,
         double alpha,
@@ -10,8 +12,12 @@ public record QParams(
         double epsilon,
         @Min(1) int bucketSize,
         @Min(1) int maxSteps,
-        @NotBlank String seed) {
+        @NotBlank String seed,
+        @Min(0) int maxQEntries,
+        QMode mode,
+        Exploration exploration) {
 
+    @JsonCreator
     public QParams {
         if (alpha <= 0 || alpha > 1) {
             throw new IllegalArgumentException("alpha must be in (0, 1]");
@@ -22,9 +28,34 @@ public record QParams(
         if (epsilon < 0 || epsilon > 1) {
             throw new IllegalArgumentException("epsilon must be in [0, 1]");
         }
+        if (maxQEntries < 0) {
+            throw new IllegalArgumentException("maxQEntries must not be negative");
+        }
+        if (mode == null) {
+            mode = QMode.TABULAR;
+        }
+        if (exploration == null) {
+            exploration = Exploration.DEFAULT;
+        }
+    }
+
+    public QParams(int episodes, double alpha, double gamma, double epsilon, int bucketSize, int maxSteps, String seed) {
+        this(episodes, alpha, gamma, epsilon, bucketSize, maxSteps, seed, 0, QMode.TABULAR, Exploration.DEFAULT);
     }
 
     public static QParams defaultParams() {
         return new QParams(200, 0.3, 0.9, 0.1, 5, 5_000, "12345");
     }
+
+    public QParams withMaxQEntries(int maxQEntries) {
+        return new QParams(episodes, alpha, gamma, epsilon, bucketSize, maxSteps, seed, maxQEntries, mode, exploration);
+    }
+
+    public QParams withMode(QMode mode) {
+        return new QParams(episodes, alpha, gamma, epsilon, bucketSize, maxSteps, seed, maxQEntries, mode, exploration);
+    }
+
+    public QParams withExploration(Exploration exploration) {
+        return new QParams(episodes, alpha, gamma, epsilon, bucketSize, maxSteps, seed, maxQEntries, mode, exploration);
+    }
 }
@@ -0,0 +1,10 @@
+package com.cvrp.rl;
+
+record QState(
+        int currentNode,
+        int remainingCapacity,
+        int vehicleCapacity,
+        int remainingCustomers,
+        int vehicleClass,
+        int vehiclesLeftBucket) {
+}
@@ -0,0 +1,69 @@
+package com.cvrp.rl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Splits the budget into fixed per-solve shares for the expected number of concurrent solves; a
+// solve never waits, so more concurrent solves than that can together exceed the budget.
+@Component
+public class QTableBudget {
+    private final int totalEntries;
+    private final int share;
+    private int leases;
+
+    public QTableBudget(
+            @Value("${cvrp.rl.qtable.max-entries:0}") int totalEntries,
+            @Value("${cvrp.rl.qtable.concurrent-solves:4}") int concurrentSolves) {
+        if (totalEntries < 0) {
+            throw new IllegalArgumentException("cvrp.rl.qtable.max-entries must not be negative");
+        }
+        if (concurrentSolves < 1) {
+            throw new IllegalArgumentException("cvrp.rl.qtable.concurrent-solves must be at least 1");
+        }
+        this.totalEntries = totalEntries;
+        this.share = Math.max(1, totalEntries / concurrentSolves);
+    }
+
+    public Lease acquire(QParams params) {
+        if (totalEntries == 0) {
+            return new Lease(params);
+        }
+        int requested = params.maxQEntries();
+        int cap = requested > 0 ? Math.min(requested, share) : share;
+        synchronized (this) {
+            leases += 1;
+        }
+        return new Lease(params.withMaxQEntries(cap));
+    }
+
+    synchronized int leases() {
+        return leases;
+    }
+
+    private synchronized void release() {
+        leases -= 1;
+    }
+
+    public final class Lease implements AutoCloseable {
+        private final QParams params;
+        private boolean closed;
+
+        private Lease(QParams params) {
+            this.params = params;
+        }
+
+        public QParams params() {
+            return params;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                if (totalEntries > 0) {
+                    release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.cvrp.rl;
+
+import com.cvrp.model.CustomerColumns;
+import com.cvrp.model.Instance;
+import com.cvrp.model.RoutePlan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// Clarke-Wright parallel savings for the warm start, matched heaviest first to the fleet dispatch order.
+final class SavingsHeuristic {
+    private SavingsHeuristic() {
+    }
+
+    // Empty if no plan fits the fleet.
+    static List<RoutePlan> solve(Instance instance, double[][] distanceMatrix, FleetClasses fleet) {
+        int[] capacities = new int[fleet.slots()];
+        for (int slot = 0; slot < fleet.slots(); slot++) {
+            capacities[slot] = fleet.capacity(slot);
+        }
+        // Dispatch order is by capacity descending, so this tries the largest limit first.
+        for (int limit : Arrays.stream(capacities).distinct().toArray()) {
+            List<List<Integer>> routes = merge(instance, distanceMatrix, limit);
+            List<RoutePlan> plan = assign(instance, distanceMatrix, fleet, routes);
+            if (!plan.isEmpty()) {
+                return plan;
+            }
+        }
+        return List.of();
+    }
+
+    private static List<List<Integer>> merge(Instance instance, double[][] distanceMatrix, int limit) {
+        CustomerColumns customers = instance.customers();
+        int n = customers.size();
+        List<List<Integer>> routeOf = new ArrayList<>(Collections.nCopies(n + 1, null));
+        int[] load = new int[n + 1];
+        for (int node = 1; node <= n; node++) {
+            List<Integer> route = new ArrayList<>();
+            route.add(node);
+            routeOf.set(node, route);
+            load[node] = customers.demand(node - 1);
+        }
+
+        List<Saving> savings = new ArrayList<>();
+        for (int i = 1; i <= n; i++) {
+            for (int j = i + 1; j <= n; j++) {
+                double value = distanceMatrix[0][i] + distanceMatrix[0][j] - distanceMatrix[i][j];
+                if (value > 0) {
+                    savings.add(new Saving(i, j, value));
+                }
+            }
+        }
+        savings.sort(Comparator.comparingDouble(Saving::value).reversed()
+                .thenComparingInt(Saving::i)
+                .thenComparingInt(Saving::j));
+
+        for (Saving saving : savings) {
+            int i = saving.i();
+            int j = saving.j();
+            List<Integer> first = routeOf.get(i);
+            List<Integer> second = routeOf.get(j);
+            if (first == second || load[first.get(0)] + load[second.get(0)] > limit) {
+                continue;
+            }
+            boolean iAtEnd = first.get(first.size() - 1) == i;
+            boolean iAtStart = first.get(0) == i;
+            boolean jAtStart = second.get(0) == j;
+            boolean jAtEnd = second.get(second.size() - 1) == j;
+            if (!(iAtEnd || iAtStart) || !(jAtStart || jAtEnd)) {
+                continue;
+            }
+            int merged = load[first.get(0)] + load[second.get(0)];
+            if (!iAtEnd) {
+                Collections.reverse(first);
+            }
+            if (!jAtStart) {
+                Collections.reverse(second);
+            }
+            first.addAll(second);
+            for (int node : second) {
+                routeOf.set(node, first);
+            }
+            // Loads are kept on the route's current first node.
+            load[first.get(0)] = merged;
+        }
+
+        List<List<Integer>> routes = new ArrayList<>();
+        for (int node = 1; node <= n; node++) {
+            List<Integer> route = routeOf.get(node);
+            if (route.get(0) == node) {
+                routes.add(route);
+            }
+        }
+        return routes;
+    }
+
+    private static List<RoutePlan> assign(
+            Instance instance, double[][] distanceMatrix, FleetClasses fleet, List<List<Integer>> routes) {
+        if (routes.size() > fleet.slots()) {
+            return List.of();
+        }
+        CustomerColumns customers = instance.customers();
+        int[] loads = new int[routes.size()];
+        Integer[] order = new Integer[routes.size()];
+        for (int r = 0; r < routes.size(); r++) {
+            for (int node : routes.get(r)) {
+                loads[r] += customers.demand(node - 1);
+            }
+            order[r] = r;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(r -> -loads[r]).thenComparingInt(r -> routes.get(r).get(0)));
+
+        int depotId = instance.depot().id();
+        List<RoutePlan> plan = new ArrayList<>(routes.size());
+        for (int slot = 0; slot < order.length; slot++) {
+            List<Integer> route = routes.get(order[slot]);
+            if (loads[order[slot]] > fleet.capacity(slot)) {
+                return List.of();
+            }
+            List<Integer> nodes = new ArrayList<>(route.size() + 2);
+            nodes.add(depotId);
+            double distance = 0.0;
+            int previous = 0;
+            for (int node : route) {
+                nodes.add(customers.id(node - 1));
+                distance += distanceMatrix[previous][node];
+                previous = node;
+            }
+            nodes.add(depotId);
+            distance += distanceMatrix[previous][0];
+            plan.add(new RoutePlan(fleet.vehicleIdx(slot) + 1, List.copyOf(nodes), loads[order[slot]], distance));
+        }
+        return plan;
+    }
+
+    private record Saving(int i, int j, double value) {
+    }
+}
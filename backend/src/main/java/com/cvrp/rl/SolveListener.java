@@ -0,0 +1,31 @@
+package com.cvrp.rl;
+
+import com.cvrp.model.RoutePlan;
+
+import java.util.List;
+
+// Callbacks run on the solving thread between episodes.
+public interface SolveListener {
+
+    SolveListener NONE = new SolveListener() {
+    };
+
+    default void onImprovement(
+            int episode, long elapsedMillis, double distance, boolean feasible, List<RoutePlan> routes) {
+    }
+
+    // Returning false ends the solve with the current incumbent.
+    default boolean shouldContinue(int episode, long elapsedMillis) {
+        return true;
+    }
+
+    // The time budget the listener stops the solve at, or 0 if it stops some other way.
+    default long budgetMillis() {
+        return 0;
+    }
+
+    // Polled once per episode; the plan is replayed as a guided episode, or null for none.
+    default List<RoutePlan> takeMigrant() {
+        return null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.cvrp.rl;
+
+import java.util.List;
+import java.util.Map;
+
+final class TabularQFunction implements QFunction {
+    private final BoundedQTable<StateKey> table;
+    private final int bucketSize;
+    private final int maxEntries;
+    private final double initialValue;
+
+    TabularQFunction(QParams params, double initialValue) {
+        this.table = new BoundedQTable<>(params.maxQEntries(), initialValue);
+        this.initialValue = initialValue;
+        this.bucketSize = Math.max(1, params.bucketSize());
+        this.maxEntries = params.maxQEntries();
+    }
+
+    @Override
+    public ActionValues lookup(QState state, List<Integer> actions) {
+        StateKey key = new StateKey(
+                state.currentNode(),
+                Math.max(0, state.remainingCapacity()) / bucketSize,
+                state.remainingCustomers() / bucketSize,
+                state.vehicleClass(),
+                state.vehiclesLeftBucket());
+        return new TableValues(table.values(key, actions), actions, initialValue);
+    }
+
+    @Override
+    public String summary() {
+        return "Q-table: " + table.states() + " states, " + table.entries() + " entries"
+                + (maxEntries > 0 ? " (cap " + maxEntries + ")" : "")
+                + ", " + table.evictions() + " evictions";
+    }
+
+    private record TableValues(Map<Integer, Double> values, List<Integer> actions, double initialValue)
+            implements ActionValues {
+
+        @Override
+        public double value(int actionIdx) {
+            return values.getOrDefault(actions.get(actionIdx), initialValue);
+        }
+
+        @Override
+        public double max() {
+            return values.values().stream().mapToDouble(Double::doubleValue).max().orElse(initialValue);
+        }
+
+        @Override
+        public void update(int actionIdx, double target, double alpha) {
+            int action = actions.get(actionIdx);
+            double current = values.getOrDefault(action, initialValue);
+            values.put(action, current + alpha * (target - current));
+        }
+    }
+
+    private record StateKey(
+            int currentNode,
+            int capacityBucket,
+            int remainingBucket,
+            int vehicleClass,
+            int vehiclesLeftBucket) {
+    }
+}
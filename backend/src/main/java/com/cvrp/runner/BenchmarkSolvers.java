@@ -0,0 +1,70 @@
+package com.cvrp.runner;
+
+import com.cvrp.model.Instance;
+import com.cvrp.model.SolveResult;
+import com.cvrp.rl.Exploration;
+import com.cvrp.rl.QLearningCvrp;
+import com.cvrp.rl.QMode;
+import com.cvrp.rl.QParams;
+import com.cvrp.rl.SolveListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Every solver runs until its listener stops it, so all are compared under the same time budget.
+final class BenchmarkSolvers {
+    private static final Map<String, BenchmarkSolver> SOLVERS = new LinkedHashMap<>();
+
+    static {
+        QLearningCvrp qLearning = new QLearningCvrp();
+        register("ql-tabular", (instance, seed, listener) ->
+                qLearning.solve(instance, untilStopped(seed), listener));
+        register("ql-linear", (instance, seed, listener) ->
+                qLearning.solve(instance, untilStopped(seed).withMode(QMode.LINEAR), listener));
+        Exploration softmax = new Exploration(Exploration.Strategy.SOFTMAX, null, null, null, 0, null);
+        register("ql-tabular-softmax", (instance, seed, listener) ->
+                qLearning.solve(instance, untilStopped(seed).withExploration(softmax), listener));
+        register("ql-linear-softmax", (instance, seed, listener) ->
+                qLearning.solve(instance, untilStopped(seed).withMode(QMode.LINEAR).withExploration(softmax), listener));
+        Exploration savings = new Exploration(Exploration.Strategy.SOFTMAX, null, null, null, 0, Exploration.WarmStart.SAVINGS);
+        register("ql-linear-savings", (instance, seed, listener) ->
+                qLearning.solve(instance, untilStopped(seed).withMode(QMode.LINEAR).withExploration(savings), listener));
+    }
+
+    private BenchmarkSolvers() {
+    }
+
+    static Map<String, BenchmarkSolver> all() {
+        return Collections.unmodifiableMap(SOLVERS);
+    }
+
+    static BenchmarkSolver get(String name) {
+        BenchmarkSolver solver = SOLVERS.get(name);
+        if (solver == null) {
+            throw new IllegalArgumentException("Unknown solver: " + name + " (known: " + SOLVERS.keySet() + ")");
+        }
+        return solver;
+    }
+
+    private static void register(String name, BenchmarkSolver solver) {
+        SOLVERS.put(name, solver);
+    }
+
+    private static QParams untilStopped(String seed) {
+        QParams defaults = QParams.defaultParams();
+        return new QParams(
+                Integer.MAX_VALUE,
+                defaults.alpha(),
+                defaults.gamma(),
+                defaults.epsilon(),
+                defaults.bucketSize(),
+                defaults.maxSteps(),
+                seed);
+    }
+
+    @FunctionalInterface
+    interface BenchmarkSolver {
+        SolveResult solve(Instance instance, String seed, SolveListener listener);
+    }
+}
@@ -0,0 +1,51 @@
+package com.cvrp.runner;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.function.Predicate;
+
+// Finds the packaged jars by name pattern so the runners do not depend on the pom version.
+final class BuildArtifacts {
+    private static final String SERVICE_JAR = "cvrp-backend-*.jar";
+    private static final String CDS_JAR = "cvrp-backend-*-cds.jar";
+
+    private BuildArtifacts() {
+    }
+
+    // The Spring Boot jar; a missing jar resolves to the pattern itself so callers can report it.
+    static Path serviceJar(Path directory) {
+        return newest(directory, SERVICE_JAR, name -> !name.endsWith("-cds.jar")
+                && !name.endsWith("-sources.jar")
+                && !name.endsWith("-javadoc.jar"));
+    }
+
+    static Path cdsJar(Path directory) {
+        return newest(directory, CDS_JAR, name -> true);
+    }
+
+    private static Path newest(Path directory, String glob, Predicate<String> accept) {
+        Path newest = null;
+        FileTime newestTime = null;
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> jars = Files.newDirectoryStream(directory, glob)) {
+                for (Path jar : jars) {
+                    if (!accept.test(jar.getFileName().toString())) {
+                        continue;
+                    }
+                    FileTime modified = Files.getLastModifiedTime(jar);
+                    if (newestTime == null || modified.compareTo(newestTime) > 0) {
+                        newest = jar;
+                        newestTime = modified;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to list " + directory, e);
+            }
+        }
+        return newest != null ? newest : directory.resolve(glob);
+    }
+}
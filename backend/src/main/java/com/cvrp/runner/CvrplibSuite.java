@@ -0,0 +1,69 @@
+package com.cvrp.runner;
+
+import com.cvrp.model.Instance;
+import com.cvrp.util.CvrplibReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Instances and best-known costs (bks.csv) bundled under cvrplib/ on the classpath.
+final class CvrplibSuite {
+    private static final String ROOT = "cvrplib/";
+    private static final Map<String, Long> BKS = loadBks();
+
+    private CvrplibSuite() {
+    }
+
+    // In index order.
+    static Map<String, Long> bestKnown() {
+        return BKS;
+    }
+
+    static boolean contains(String name) {
+        return BKS.containsKey(name);
+    }
+
+    // One vehicle per customer, i.e. an effectively unbounded fleet.
+    static Instance load(String name) {
+        if (!contains(name)) {
+            throw new IllegalArgumentException("Unknown CVRPLIB instance: " + name);
+        }
+        try (BufferedReader reader = open(name + ".vrp")) {
+            return CvrplibReader.read(name, reader, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read CVRPLIB instance " + name, e);
+        }
+    }
+
+    private static Map<String, Long> loadBks() {
+        Map<String, Long> bks = new LinkedHashMap<>();
+        try (BufferedReader reader = open("bks.csv")) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                bks.put(parts[0].trim(), Long.parseLong(parts[1].trim()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + ROOT + "bks.csv", e);
+        }
+        return Collections.unmodifiableMap(bks);
+    }
+
+    private static BufferedReader open(String resource) throws IOException {
+        InputStream stream = CvrplibSuite.class.getClassLoader().getResourceAsStream(ROOT + resource);
+        if (stream == null) {
+            throw new IOException("Missing classpath resource " + ROOT + resource);
+        }
+        return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+}
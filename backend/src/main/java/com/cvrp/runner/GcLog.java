@@ -0,0 +1,34 @@
+package com.cvrp.runner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Stop-the-world pauses from a unified GC log (-Xlog:gc:file=...), e.g.
+// [2.345s][info][gc] GC(3) Pause Young (Normal) (G1 Evacuation Pause) 23M->4M(254M) 3.210ms
+final class GcLog {
+    private static final Pattern PAUSE = Pattern.compile("\\bPause\\b.*\\s(\\d+(?:\\.\\d+)?)ms\\s*$");
+
+    private GcLog() {
+    }
+
+    // Milliseconds, in log order; empty if the log does not exist yet.
+    static List<Double> pauses(Path log) throws IOException {
+        List<Double> pauses = new ArrayList<>();
+        if (!Files.exists(log)) {
+            return pauses;
+        }
+        for (String line : Files.readAllLines(log, StandardCharsets.UTF_8)) {
+            Matcher matcher = PAUSE.matcher(line);
+            if (matcher.find()) {
+                pauses.add(Double.parseDouble(matcher.group(1)));
+            }
+        }
+        return pauses;
+    }
+}
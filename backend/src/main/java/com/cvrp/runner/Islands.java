@@ -0,0 +1,204 @@
+package com.cvrp.runner;
+
+import com.cvrp.island.IslandCoordinator;
+import com.cvrp.island.IslandWorker;
+import com.cvrp.model.Instance;
+import com.cvrp.model.RoutePlan;
+import com.cvrp.rl.QLearningCvrp;
+import com.cvrp.rl.QMode;
+import com.cvrp.rl.QParams;
+import com.cvrp.util.CvrplibReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+public final class Islands {
+    private static final long ISLAND_EXIT_TIMEOUT_SECONDS = 15;
+
+    private Islands() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = Main.parseArgs(args);
+        String host = options.getOrDefault("host", "127.0.0.1");
+        int port = Integer.parseInt(options.getOrDefault("port", "0"));
+        if (options.getOrDefault("role", "coordinator").equals("island")) {
+            IslandWorker.run(new InetSocketAddress(host, port), new QLearningCvrp());
+            return;
+        }
+
+        String instanceName = options.getOrDefault("instance", "A-n60-k9");
+        Instance instance = Main.loadInstance(instanceName, options.getOrDefault("instanceSeed", "12345"));
+        List<Integer> islandCounts = ints(options.getOrDefault("islands", "1,2,4"));
+        int repeats = Integer.parseInt(options.getOrDefault("repeats", "1"));
+        long budgetMs = Long.parseLong(options.getOrDefault("budgetMs", "30000"));
+        long migrateMs = Long.parseLong(options.getOrDefault("migrateMs", "250"));
+        boolean spawn = Boolean.parseBoolean(options.getOrDefault("spawn", "true"));
+        String seed = options.getOrDefault("seed", "island");
+        QMode mode = QMode.parse(options.get("mode"));
+        List<Double> epsilons = doubles(options.getOrDefault("epsilon", "0.1"));
+
+        boolean cvrplib = CvrplibSuite.contains(instanceName);
+        ToDoubleFunction<List<RoutePlan>> cost = cvrplib
+                ? routes -> CvrplibReader.roundedCost(instance, routes)
+                : routes -> routes.stream().mapToDouble(RoutePlan::distance).sum();
+        double target = Double.parseDouble(options.getOrDefault("target", "0"));
+        if (target <= 0 && cvrplib && options.containsKey("targetGap")) {
+            target = CvrplibSuite.bestKnown().get(instanceName) * (1.0 + Double.parseDouble(options.get("targetGap")));
+        }
+
+        try (IslandCoordinator coordinator = new IslandCoordinator(new InetSocketAddress(host, port))) {
+            System.out.println(String.format(
+                    Locale.US,
+                    "Islands: instance=%s target=%s budget=%d ms migrate=%d ms, coordinator on %s:%d",
+                    instance.id(),
+                    target > 0 ? String.format(Locale.US, "%.1f", target) : "none",
+                    budgetMs,
+                    migrateMs,
+                    host,
+                    coordinator.port()));
+            List<Row> rows = new ArrayList<>();
+            for (int islands : islandCounts) {
+                List<IslandCoordinator.Outcome> outcomes = new ArrayList<>();
+                for (int repeat = 0; repeat < repeats; repeat++) {
+                    List<QParams> params = new ArrayList<>(islands);
+                    for (int i = 0; i < islands; i++) {
+                        QParams defaults = QParams.defaultParams();
+                        params.add(new QParams(
+                                Integer.MAX_VALUE,
+                                defaults.alpha(),
+                                defaults.gamma(),
+                                epsilons.get(i % epsilons.size()),
+                                defaults.bucketSize(),
+                                defaults.maxSteps(),
+                                seed + "-" + repeat + "-" + i).withMode(mode));
+                    }
+                    List<Process> processes = spawn ? spawnIslands(islands, host, coordinator.port()) : List.of();
+                    try {
+                        IslandCoordinator.Outcome outcome =
+                                coordinator.run(instance, params, migrateMs, budgetMs, target, cost);
+                        outcomes.add(outcome);
+                        System.out.println(String.format(
+                                Locale.US,
+                                "islands=%d repeat=%d best=%.1f (island %d) time-to-target=%s elapsed=%d ms migrations=%d reported=%d/%d",
+                                islands,
+                                repeat,
+                                outcome.bestCost(),
+                                outcome.bestIsland(),
+                                outcome.timeToTargetMillis() >= 0 ? outcome.timeToTargetMillis() + " ms" : "-",
+                                outcome.elapsedMillis(),
+                                outcome.migrations(),
+                                outcome.islandsReported(),
+                                outcome.islands()));
+                    } finally {
+                        awaitExit(processes);
+                    }
+                }
+                rows.add(Row.of(islands, outcomes, budgetMs));
+            }
+            printSummary(rows, target > 0);
+        }
+    }
+
+    private static List<Process> spawnIslands(int count, String host, int port) throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<Process> processes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            processes.add(new ProcessBuilder(
+                    java,
+                    "-cp",
+                    classPath(),
+                    Islands.class.getName(),
+                    "--role=island",
+                    "--host=" + host,
+                    "--port=" + port)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start());
+        }
+        return processes;
+    }
+
+    // Includes the isolated loader mvn exec:java runs us in.
+    private static String classPath() {
+        if (Thread.currentThread().getContextClassLoader() instanceof URLClassLoader loader) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : loader.getURLs()) {
+                try {
+                    entries.add(Path.of(url.toURI()).toString());
+                } catch (URISyntaxException | IllegalArgumentException e) {
+                    // Not a file URL; the workers cannot use it either.
+                }
+            }
+            if (!entries.isEmpty()) {
+                return String.join(File.pathSeparator, entries);
+            }
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    private static void awaitExit(List<Process> processes) throws InterruptedException {
+        for (Process process : processes) {
+            if (!process.waitFor(ISLAND_EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static void printSummary(List<Row> rows, boolean hasTarget) {
+        System.out.println(String.format(
+                Locale.US, "%8s %7s %10s %8s %12s", "islands", "hit", "median ms", "speedup", "median best"));
+        double baseline = rows.get(0).medianTimeToTarget();
+        for (Row row : rows) {
+            String speedup = hasTarget && row.hits() > 0 && rows.get(0).hits() > 0
+                    ? String.format(Locale.US, "%.2fx", baseline / row.medianTimeToTarget())
+                    : "-";
+            System.out.println(String.format(
+                    Locale.US,
+                    "%8d %7s %10s %8s %12.1f",
+                    row.islands(),
+                    row.hits() + "/" + row.runs(),
+                    hasTarget ? String.format(Locale.US, "%.0f", row.medianTimeToTarget()) : "-",
+                    speedup,
+                    row.medianBest()));
+        }
+    }
+
+    private static List<Integer> ints(String value) {
+        return List.of(value.split(",")).stream().map(String::trim).map(Integer::parseInt).toList();
+    }
+
+    private static List<Double> doubles(String value) {
+        return List.of(value.split(",")).stream().map(String::trim).map(Double::parseDouble).toList();
+    }
+
+    // A run that missed the target counts as taking the whole budget.
+    private record Row(int islands, int runs, int hits, double medianTimeToTarget, double medianBest) {
+
+        static Row of(int islands, List<IslandCoordinator.Outcome> outcomes, long budgetMs) {
+            double[] times = outcomes.stream()
+                    .mapToDouble(o -> o.timeToTargetMillis() >= 0 ? o.timeToTargetMillis() : budgetMs)
+                    .sorted()
+                    .toArray();
+            double[] bests = outcomes.stream().mapToDouble(IslandCoordinator.Outcome::bestCost).sorted().toArray();
+            int hits = (int) outcomes.stream().filter(o -> o.timeToTargetMillis() >= 0).count();
+            return new Row(islands, outcomes.size(), hits, median(times), median(bests));
+        }
+
+        private static double median(double[] sorted) {
+            int mid = sorted.length / 2;
+            return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2.0;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.cvrp.runner;
+
+import com.cvrp.api.dto.RlSolveRequest;
+import com.cvrp.rl.QParams;
+import com.cvrp.util.SeededRandom;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// name:weight,... over Main.loadInstance names; variants are pre-serialized to keep JSON out of the timed loop.
+final class LoadMix {
+    private static final int VARIANTS = 8;
+
+    private final String spec;
+    private final List<List<String>> bodies;
+    private final int[] cumulativeWeights;
+
+    private LoadMix(String spec, List<List<String>> bodies, int[] cumulativeWeights) {
+        this.spec = spec;
+        this.bodies = bodies;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    static LoadMix parse(String spec, QParams params, ObjectMapper mapper) throws JsonProcessingException {
+        List<List<String>> bodies = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] nameAndWeight = part.trim().split(":");
+            int weight = nameAndWeight.length > 1 ? Integer.parseInt(nameAndWeight[1]) : 1;
+            if (weight < 1) {
+                throw new IllegalArgumentException("Mix weights must be >= 1: " + part);
+            }
+            List<String> variants = new ArrayList<>(VARIANTS);
+            for (int v = 0; v < VARIANTS; v++) {
+                variants.add(mapper.writeValueAsString(new RlSolveRequest(
+                        Main.loadInstance(nameAndWeight[0], "load-" + v), params)));
+            }
+            bodies.add(variants);
+            weights.add(weight);
+        }
+        if (bodies.isEmpty()) {
+            throw new IllegalArgumentException("Empty load mix: " + spec);
+        }
+        int[] cumulative = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            total += weights.get(i);
+            cumulative[i] = total;
+        }
+        return new LoadMix(spec, bodies, cumulative);
+    }
+
+    String pick(SeededRandom rng) {
+        int ticket = rng.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int entry = 0;
+        while (ticket >= cumulativeWeights[entry]) {
+            entry += 1;
+        }
+        List<String> variants = bodies.get(entry);
+        return variants.get(rng.nextInt(variants.size()));
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
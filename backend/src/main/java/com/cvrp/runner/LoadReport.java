@@ -0,0 +1,130 @@
+package com.cvrp.runner;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.zip.DataFormatException;
+
+// Latencies are in milliseconds; the histogram is HdrHistogram's compressed encoding in microseconds.
+record LoadReport(
+        String label,
+        String mix,
+        double targetRate,
+        long durationMillis,
+        int episodes,
+        long sent,
+        long ok,
+        Map<String, Long> errors,
+        long unfinished,
+        double throughput,
+        double errorRate,
+        Latency latency,
+        GcPauses gc,
+        String jvm,
+        int cores,
+        String histogram) {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    record Latency(double mean, double p50, double p95, double p99, double p999, double max) {
+
+        static Latency of(Histogram micros) {
+            return new Latency(
+                    micros.getMean() / 1000.0,
+                    micros.getValueAtPercentile(50.0) / 1000.0,
+                    micros.getValueAtPercentile(95.0) / 1000.0,
+                    micros.getValueAtPercentile(99.0) / 1000.0,
+                    micros.getValueAtPercentile(99.9) / 1000.0,
+                    micros.getMaxValue() / 1000.0);
+        }
+    }
+
+    // Null when no GC log was available.
+    record GcPauses(int count, double totalMillis, double maxMillis) {
+    }
+
+    static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        histogram.encodeIntoCompressedByteBuffer(buffer);
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip().get(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    static Histogram decode(String encoded) throws DataFormatException {
+        return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(encoded)), 0);
+    }
+
+    static LoadReport read(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), LoadReport.class);
+    }
+
+    void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    String summary() {
+        return String.format(
+                Locale.US,
+                "%s: mix=%s rate=%.1f/s duration=%d ms sent=%d ok=%d errors=%s unfinished=%d%n"
+                        + "  throughput %.2f/s, error rate %.2f%%%n"
+                        + "  latency ms: mean %.1f p50 %.1f p95 %.1f p99 %.1f p99.9 %.1f max %.1f%n"
+                        + "  gc: %s%n",
+                label,
+                mix,
+                targetRate,
+                durationMillis,
+                sent,
+                ok,
+                errors,
+                unfinished,
+                throughput,
+                100.0 * errorRate,
+                latency.mean(),
+                latency.p50(),
+                latency.p95(),
+                latency.p99(),
+                latency.p999(),
+                latency.max(),
+                gc == null
+                        ? "n/a"
+                        : String.format(Locale.US, "%d pauses, %.1f ms total, %.1f ms max",
+                                gc.count(), gc.totalMillis(), gc.maxMillis()));
+    }
+
+    String compareTo(LoadReport baseline) {
+        StringBuilder builder = new StringBuilder(String.format(
+                Locale.US, "%-16s %12s %12s %9s%n", "metric", baseline.label(), label, "change"));
+        row(builder, "throughput/s", baseline, LoadReport::throughput);
+        row(builder, "error rate %", baseline, r -> 100.0 * r.errorRate());
+        row(builder, "p50 ms", baseline, r -> r.latency().p50());
+        row(builder, "p95 ms", baseline, r -> r.latency().p95());
+        row(builder, "p99 ms", baseline, r -> r.latency().p99());
+        row(builder, "p99.9 ms", baseline, r -> r.latency().p999());
+        row(builder, "max ms", baseline, r -> r.latency().max());
+        if (gc != null && baseline.gc() != null) {
+            row(builder, "gc pause ms", baseline, r -> r.gc().totalMillis());
+            row(builder, "gc max ms", baseline, r -> r.gc().maxMillis());
+        }
+        return builder.toString();
+    }
+
+    private void row(StringBuilder builder, String name, LoadReport baseline, ToDoubleFunction<LoadReport> metric) {
+        double before = metric.applyAsDouble(baseline);
+        double after = metric.applyAsDouble(this);
+        String change = before == 0.0 ? "-" : String.format(Locale.US, "%+.1f%%", 100.0 * (after - before) / before);
+        builder.append(String.format(Locale.US, "%-16s %12.2f %12.2f %9s%n", name, before, after, change));
+    }
+}
@@ -0,0 +1,281 @@
+package com.cvrp.runner;
+
+import com.cvrp.api.dto.RlSolveRequest;
+import com.cvrp.mock.MockInstances;
+import com.cvrp.rl.QMode;
+import com.cvrp.rl.QParams;
+import com.cvrp.util.SeededRandom;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Open loop: requests go out on a fixed schedule and latency is measured from the scheduled send
+// time, so a stalled service shows up in the tail instead of lowering the offered load.
+public final class LoadTest {
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(60);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = Main.parseArgs(args);
+        double rate = Double.parseDouble(options.getOrDefault("rate", "10"));
+        long durationMs = TimeUnit.SECONDS.toMillis(Long.parseLong(options.getOrDefault("durationS", "30")));
+        long warmupMs = TimeUnit.SECONDS.toMillis(Long.parseLong(options.getOrDefault("warmupS", "10")));
+        int episodes = Integer.parseInt(options.getOrDefault("episodes", "50"));
+        Duration timeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeoutS", "30")));
+        String label = options.getOrDefault("label", "run");
+        Path out = Path.of(options.getOrDefault("out", "loadtest-results/" + label + ".json"));
+        Path workDir = Path.of(options.getOrDefault("workDir", "target/loadtest"));
+        if (rate <= 0 || durationMs <= 0 || warmupMs < 0) {
+            throw new IllegalArgumentException("rate and durationS must be > 0 and warmupS >= 0");
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        QParams defaults = QParams.defaultParams();
+        QParams params = new QParams(
+                episodes,
+                defaults.alpha(),
+                defaults.gamma(),
+                defaults.epsilon(),
+                defaults.bucketSize(),
+                defaults.maxSteps(),
+                options.getOrDefault("seed", "load")).withMode(QMode.parse(options.get("mode")));
+        LoadMix mix = LoadMix.parse(options.getOrDefault("mix", "tiny15:3,grid20:1,random50:1"), params, mapper);
+
+        Process service = null;
+        URI endpoint;
+        Path gcLog;
+        if (options.containsKey("url")) {
+            endpoint = URI.create(options.get("url") + "/api/rl/solve");
+            gcLog = options.containsKey("gcLog") ? Path.of(options.get("gcLog")) : null;
+        } else {
+            int port = Integer.parseInt(options.getOrDefault("port", "18081"));
+            Files.createDirectories(workDir);
+            gcLog = workDir.resolve("gc.log");
+            Files.deleteIfExists(gcLog);
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            for (String jvmArg : options.getOrDefault("jvmArgs", "").split(" ")) {
+                if (!jvmArg.isBlank()) {
+                    command.add(jvmArg);
+                }
+            }
+            Path jar = options.containsKey("jar")
+                    ? Path.of(options.get("jar"))
+                    : BuildArtifacts.serviceJar(Path.of("target"));
+            if (!Files.exists(jar)) {
+                throw new IllegalArgumentException("No service jar at " + jar + "; run mvn package or pass --jar");
+            }
+            command.add("-Xlog:gc:file=" + gcLog);
+            command.add("-jar");
+            command.add(jar.toString());
+            command.add("--server.port=" + port);
+            service = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(workDir.resolve("service.log").toFile())
+                    .start();
+            endpoint = URI.create("http://localhost:" + port + "/api/rl/solve");
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            awaitReady(client, endpoint, mapper, service);
+            LoadReport report = run(client, endpoint, mix, rate, warmupMs, durationMs, timeout, gcLog, label, episodes);
+            System.out.print(report.summary());
+            report.write(out);
+            Path percentiles = out.resolveSibling(label + ".hgrm");
+            try (PrintStream stream = new PrintStream(Files.newOutputStream(percentiles), true, StandardCharsets.UTF_8)) {
+                // Recorded in microseconds; the .hgrm file is in milliseconds.
+                LoadReport.decode(report.histogram()).outputPercentileDistribution(stream, 1000.0);
+            }
+            System.out.println("Saved " + out + " and " + percentiles);
+            if (options.containsKey("compare")) {
+                System.out.print(report.compareTo(LoadReport.read(Path.of(options.get("compare")))));
+            }
+        } finally {
+            if (service != null) {
+                service.destroy();
+                if (!service.waitFor(10, TimeUnit.SECONDS)) {
+                    service.destroyForcibly().waitFor();
+                }
+            }
+        }
+    }
+
+    private static LoadReport run(
+            HttpClient client,
+            URI endpoint,
+            LoadMix mix,
+            double rate,
+            long warmupMs,
+            long durationMs,
+            Duration timeout,
+            Path gcLog,
+            String label,
+            int episodes) throws Exception {
+        SeededRandom rng = new SeededRandom("load-mix");
+        Recorder measured = new Recorder(SIGNIFICANT_DIGITS);
+        LongAdder ok = new LongAdder();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        AtomicLong sent = new AtomicLong();
+        List<Pending> inFlight = new ArrayList<>();
+
+        long intervalNanos = Math.round(1_000_000_000.0 / rate);
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.MILLISECONDS.toNanos(warmupMs);
+        long end = measureFrom + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        int gcPausesBefore = -1;
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * intervalNanos;
+            if (scheduled >= end) {
+                break;
+            }
+            boolean counted = scheduled >= measureFrom;
+            if (counted && gcPausesBefore < 0) {
+                gcPausesBefore = gcLog == null ? 0 : GcLog.pauses(gcLog).size();
+            }
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            HttpRequest request = HttpRequest.newBuilder(endpoint)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(mix.pick(rng)))
+                    .build();
+            if (counted) {
+                sent.incrementAndGet();
+            }
+            AtomicBoolean recorded = new AtomicBoolean();
+            CompletableFuture<Void> future = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, failure) -> {
+                        if (!counted || !recorded.compareAndSet(false, true)) {
+                            return null;
+                        }
+                        measured.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled));
+                        if (failure != null) {
+                            Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                            errors.computeIfAbsent(cause.getClass().getSimpleName(), k -> new LongAdder()).increment();
+                        } else if (response.statusCode() / 100 != 2) {
+                            errors.computeIfAbsent("HTTP " + response.statusCode(), k -> new LongAdder()).increment();
+                        } else {
+                            ok.increment();
+                        }
+                        return null;
+                    });
+            inFlight.add(new Pending(scheduled, counted, recorded, future));
+        }
+        try {
+            CompletableFuture.allOf(inFlight.stream().map(Pending::future).toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis() + 5_000, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Counted below.
+        }
+        // Dropping requests that never completed would hide the worst latencies (coordinated
+        // omission), so they are recorded at their latency so far and reported as unfinished.
+        long unfinished = 0;
+        long now = System.nanoTime();
+        for (Pending pending : inFlight) {
+            if (pending.counted() && pending.recorded().compareAndSet(false, true)) {
+                measured.recordValue(TimeUnit.NANOSECONDS.toMicros(now - pending.scheduled()));
+                pending.future().cancel(true);
+                unfinished += 1;
+            }
+        }
+        if (unfinished > 0) {
+            System.out.println(unfinished + " requests were still in flight at the end; counted as unfinished");
+        }
+
+        Histogram histogram = measured.getIntervalHistogram();
+        LoadReport.GcPauses gc = null;
+        if (gcLog != null && Files.exists(gcLog)) {
+            List<Double> pauses = GcLog.pauses(gcLog);
+            List<Double> window = pauses.subList(Math.min(Math.max(gcPausesBefore, 0), pauses.size()), pauses.size());
+            gc = new LoadReport.GcPauses(
+                    window.size(),
+                    window.stream().mapToDouble(Double::doubleValue).sum(),
+                    window.stream().mapToDouble(Double::doubleValue).max().orElse(0.0));
+        }
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((key, count) -> errorCounts.put(key, count.sum()));
+        long errorTotal = errorCounts.values().stream().mapToLong(Long::longValue).sum();
+        long sentCount = sent.get();
+        return new LoadReport(
+                label,
+                mix.toString(),
+                rate,
+                durationMs,
+                episodes,
+                sentCount,
+                ok.sum(),
+                errorCounts,
+                unfinished,
+                ok.sum() * 1000.0 / durationMs,
+                sentCount == 0 ? 0.0 : (errorTotal + unfinished) / (double) sentCount,
+                LoadReport.Latency.of(histogram),
+                gc,
+                System.getProperty("java.vm.name") + " " + System.getProperty("java.version"),
+                Runtime.getRuntime().availableProcessors(),
+                LoadReport.encode(histogram));
+    }
+
+    private record Pending(
+            long scheduled, boolean counted, AtomicBoolean recorded, CompletableFuture<Void> future) {
+    }
+
+    private static void awaitReady(HttpClient client, URI endpoint, ObjectMapper mapper, Process service)
+            throws IOException, InterruptedException {
+        String body = mapper.writeValueAsString(new RlSolveRequest(
+                MockInstances.tiny15("ready"),
+                new QParams(1, 0.3, 0.9, 0.1, 5, 5_000, "ready")));
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (service != null && !service.isAlive()) {
+                throw new IllegalStateException("Service exited with " + service.exitValue() + " before it was ready");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // Not listening yet.
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("Service at " + endpoint + " was not ready within " + READY_TIMEOUT);
+    }
+}
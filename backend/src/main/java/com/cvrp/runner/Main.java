@@ -4,7 +4,9 @@ import com.cvrp.mock.MockInstances;
 import com.cvrp.model.Instance;
 import com.cvrp.model.RoutePlan;
 import com.cvrp.model.SolveResult;
+import com.cvrp.rl.Exploration;
 import com.cvrp.rl.QLearningCvrp;
+import com.cvrp.rl.QMode;
 import com.cvrp.rl.QParams;
 import com.cvrp.util.Stopwatch;
 
@@ -25,8 +27,19 @@ public final class Main {
         double gamma = Double.parseDouble(options.getOrDefault("gamma", "0.9"));
         double epsilon = Double.parseDouble(options.getOrDefault("epsilon", "0.1"));
         String seed = options.getOrDefault("seed", "12345");
+        QMode mode = QMode.parse(options.get("mode"));
 
-        QParams params = new QParams(episodes, alpha, gamma, epsilon, 5, 5_000, seed);
+        Exploration exploration = new Exploration(
+                Exploration.Strategy.parse(options.get("explore")),
+                options.containsKey("temperature") ? Double.parseDouble(options.get("temperature")) : null,
+                Exploration.Decay.parse(options.get("decay")),
+                options.containsKey("epsilonEnd") ? Double.parseDouble(options.get("epsilonEnd")) : null,
+                Integer.parseInt(options.getOrDefault("decayEpisodes", "0")),
+                Exploration.WarmStart.parse(options.get("warmStart")));
+
+        QParams params = new QParams(episodes, alpha, gamma, epsilon, 5, 5_000, seed)
+                .withMode(mode)
+                .withExploration(exploration);
         Instance instance = loadInstance(instanceName, seed);
 
         System.out.println("Running Q-learning CVRP solver");
@@ -34,7 +47,11 @@ public final class Main {
         System.out.println(
                 String.format(
                         Locale.US,
-                        "episodes=%d alpha=%.3f gamma=%.3f epsilon=%.3f seed=%s",
+                        "mode=%s explore=%s decay=%s warmStart=%s episodes=%d alpha=%.3f gamma=%.3f epsilon=%.3f seed=%s",
+                        params.mode().id(),
+                        exploration.strategy().id(),
+                        exploration.decay().id(),
+                        exploration.warmStart().id(),
                         params.episodes(),
                         params.alpha(),
                         params.gamma(),
@@ -72,15 +89,23 @@ public final class Main {
         }
     }
 
-    private static Instance loadInstance(String name, String seed) {
+    static Instance loadInstance(String name, String seed) {
         return switch (name) {
             case "grid20" -> MockInstances.grid20(seed);
             case "tiny15" -> MockInstances.tiny15(seed);
-            default -> throw new IllegalArgumentException("Unknown instance: " + name);
+            default -> {
+                if (CvrplibSuite.contains(name)) {
+                    yield CvrplibSuite.load(name);
+                }
+                if (name.matches("random\\d+")) {
+                    yield MockInstances.random(Integer.parseInt(name.substring("random".length())), seed);
+                }
+                throw new IllegalArgumentException("Unknown instance: " + name);
+            }
         };
     }
 
-    private static Map<String, String> parseArgs(String[] args) {
+    static Map<String, String> parseArgs(String[] args) {
         Map<String, String> options = new HashMap<>();
         for (String arg : args) {
             if (!arg.startsWith("--")) {
@@ -0,0 +1,180 @@
+package com.cvrp.runner;
+
+import com.cvrp.model.Instance;
+import com.cvrp.model.RoutePlan;
+import com.cvrp.model.SolveResult;
+import com.cvrp.rl.SolveListener;
+import com.cvrp.util.CvrplibReader;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class QualityBenchmark {
+    private static final double[] CHECKPOINTS = {0.1, 0.25, 0.5, 1.0};
+
+    private QualityBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = Main.parseArgs(args);
+        long budgetMs = Long.parseLong(options.getOrDefault("budgetMs", "2000"));
+        List<String> seeds = List.of(options.getOrDefault("seeds", "1,2,3").split(","));
+        List<String> instances = options.containsKey("instances")
+                ? List.of(options.get("instances").split(","))
+                : List.copyOf(CvrplibSuite.bestKnown().keySet());
+        List<String> solvers = options.containsKey("solvers")
+                ? List.of(options.get("solvers").split(","))
+                : List.copyOf(BenchmarkSolvers.all().keySet());
+        Path out = Path.of(options.getOrDefault("out", "quality-report.md"));
+        Path curveOut = options.containsKey("curve") ? Path.of(options.get("curve")) : null;
+
+        List<Run> runs = new ArrayList<>();
+        for (String instanceName : instances) {
+            Instance instance = CvrplibSuite.load(instanceName);
+            for (String solverName : solvers) {
+                BenchmarkSolvers.BenchmarkSolver solver = BenchmarkSolvers.get(solverName);
+                for (String seed : seeds) {
+                    Run run = new Run(instanceName, solverName, seed, new ArrayList<>());
+                    SolveResult result = solver.solve(instance, seed, new Recorder(instance, budgetMs, run));
+                    runs.add(run);
+                    System.out.println(String.format(
+                            Locale.US,
+                            "%s %s seed=%s feasible=%b cost=%s improvements=%d",
+                            instanceName,
+                            solverName,
+                            seed,
+                            result.feasible(),
+                            result.feasible() ? String.valueOf(CvrplibReader.roundedCost(instance, result.routes())) : "-",
+                            run.curve().size()));
+                }
+            }
+        }
+
+        String report = report(runs, instances, solvers, seeds, budgetMs);
+        Files.writeString(out, report, StandardCharsets.UTF_8);
+        System.out.print(report);
+        if (curveOut != null) {
+            writeCurve(curveOut, runs);
+        }
+    }
+
+    private static String report(
+            List<Run> runs, List<String> instances, List<String> solvers, List<String> seeds, long budgetMs) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("# CVRPLIB quality vs. time\n\n");
+        builder.append(String.format(Locale.US, "Budget %d ms per run, seeds %s. ", budgetMs, String.join(",", seeds)));
+        builder.append("Gap = mean (cost - BKS) / BKS over seeds with a feasible incumbent at that time; ");
+        builder.append("the fraction of such seeds is shown in brackets.\n\n");
+        builder.append("| instance | BKS | solver |");
+        for (double checkpoint : CHECKPOINTS) {
+            builder.append(String.format(Locale.US, " gap @%d%% |", Math.round(checkpoint * 100)));
+        }
+        builder.append(" best cost |\n|---|---:|---|");
+        builder.append("---:|".repeat(CHECKPOINTS.length + 1)).append('\n');
+        for (String instance : instances) {
+            long bks = CvrplibSuite.bestKnown().get(instance);
+            for (String solver : solvers) {
+                List<Run> group = runs.stream()
+                        .filter(run -> run.instance().equals(instance) && run.solver().equals(solver))
+                        .toList();
+                builder.append("| ").append(instance).append(" | ").append(bks).append(" | ").append(solver).append(" |");
+                for (double checkpoint : CHECKPOINTS) {
+                    long at = Math.round(budgetMs * checkpoint);
+                    double gapSum = 0.0;
+                    int feasible = 0;
+                    for (Run run : group) {
+                        long cost = run.costAt(at);
+                        if (cost > 0) {
+                            gapSum += (cost - bks) / (double) bks;
+                            feasible += 1;
+                        }
+                    }
+                    String gap = feasible == 0 ? "-" : String.format(Locale.US, "%.1f%%", 100.0 * gapSum / feasible);
+                    builder.append(String.format(Locale.US, " %s (%d/%d) |", gap, feasible, group.size()));
+                }
+                long best = group.stream().mapToLong(run -> run.costAt(Long.MAX_VALUE)).filter(c -> c > 0).min().orElse(-1);
+                builder.append(' ').append(best > 0 ? String.valueOf(best) : "-").append(" |\n");
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void writeCurve(Path path, List<Run> runs) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("instance,solver,seed,elapsedMs,episode,cost,feasible,gap");
+            writer.newLine();
+            for (Run run : runs) {
+                long bks = CvrplibSuite.bestKnown().get(run.instance());
+                for (Point point : run.curve()) {
+                    writer.write(String.format(
+                            Locale.US,
+                            "%s,%s,%s,%d,%d,%d,%b,%.4f",
+                            run.instance(),
+                            run.solver(),
+                            run.seed(),
+                            point.elapsedMs(),
+                            point.episode(),
+                            point.cost(),
+                            point.feasible(),
+                            (point.cost() - bks) / (double) bks));
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private record Point(long elapsedMs, int episode, long cost, boolean feasible) {
+    }
+
+    private record Run(String instance, String solver, String seed, List<Point> curve) {
+
+        // Rounded cost of the feasible incumbent at elapsedMs, or -1 if there was none yet.
+        long costAt(long elapsedMs) {
+            long cost = -1;
+            for (Point point : curve) {
+                if (point.elapsedMs() > elapsedMs) {
+                    break;
+                }
+                if (point.feasible()) {
+                    cost = point.cost();
+                }
+            }
+            return cost;
+        }
+    }
+
+    private static final class Recorder implements SolveListener {
+        private final Instance instance;
+        private final long budgetMs;
+        private final Run run;
+
+        private Recorder(Instance instance, long budgetMs, Run run) {
+            this.instance = instance;
+            this.budgetMs = budgetMs;
+            this.run = run;
+        }
+
+        @Override
+        public void onImprovement(
+                int episode, long elapsedMillis, double distance, boolean feasible, List<RoutePlan> routes) {
+            run.curve().add(new Point(elapsedMillis, episode, CvrplibReader.roundedCost(instance, routes), feasible));
+        }
+
+        @Override
+        public boolean shouldContinue(int episode, long elapsedMillis) {
+            return elapsedMillis < budgetMs;
+        }
+
+        @Override
+        public long budgetMillis() {
+            return budgetMs;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.cvrp.runner;
+
+import com.cvrp.api.dto.RlSolveRequest;
+import com.cvrp.mock.MockInstances;
+import com.cvrp.rl.QParams;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// CLI variants are timed from process start to exit after one solve; service variants to the
+// first successful POST /api/rl/solve. Variants whose artifacts are missing are skipped.
+public final class StartupBenchmark {
+    private static final Duration SERVICE_TIMEOUT = Duration.ofSeconds(60);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = Main.parseArgs(args);
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        int port = Integer.parseInt(options.getOrDefault("port", "18080"));
+        String target = options.getOrDefault("target", "target");
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Path fatJar = options.containsKey("jar")
+                ? Path.of(options.get("jar"))
+                : BuildArtifacts.serviceJar(Path.of(target));
+        Path cdsDir = Path.of(options.getOrDefault("cds", target + "/cds"));
+        Path cdsJar = BuildArtifacts.cdsJar(cdsDir);
+        Path nativeCli = Path.of(options.getOrDefault("native", target + "/cvrp-cli"));
+
+        String[] cliArgs = {"--instance=tiny15", "--episodes=50"};
+        List<Variant> variants = List.of(
+                new Variant("cli-jvm", false, List.of(cdsJar),
+                        concat(List.of(java, "-cp", cdsJar.toString(), Main.class.getName()), cliArgs)),
+                new Variant("cli-cds", false, List.of(cdsJar, cdsDir.resolve("cvrp-cli.jsa")),
+                        concat(List.of(java, "-XX:SharedArchiveFile=" + cdsDir.resolve("cvrp-cli.jsa"),
+                                "-cp", cdsJar.toString(), Main.class.getName()), cliArgs)),
+                new Variant("cli-native", false, List.of(nativeCli),
+                        concat(List.of(nativeCli.toString()), cliArgs)),
+                new Variant("service-jvm", true, List.of(fatJar),
+                        List.of(java, "-jar", fatJar.toString(), "--server.port=" + port)),
+                new Variant("service-cds", true, List.of(cdsJar, cdsDir.resolve("cvrp-backend.jsa")),
+                        List.of(java, "-XX:SharedArchiveFile=" + cdsDir.resolve("cvrp-backend.jsa"),
+                                "-Dspring.aot.enabled=true", "-jar", cdsJar.toString(), "--server.port=" + port)));
+
+        String body = new ObjectMapper().writeValueAsString(new RlSolveRequest(
+                MockInstances.tiny15("startup"),
+                new QParams(50, 0.3, 0.9, 0.1, 5, 5_000, "startup")));
+
+        System.out.println(String.format(
+                Locale.US, "%-12s %6s %9s %9s %9s", "variant", "runs", "min ms", "median ms", "max ms"));
+        for (Variant variant : variants) {
+            if (!variant.artifacts().stream().allMatch(Files::exists)) {
+                System.out.println(String.format(
+                        Locale.US, "%-12s skipped (missing %s)", variant.name(), variant.artifacts()));
+                continue;
+            }
+            long[] samples = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                samples[i] = variant.service() ? timeService(variant.command(), port, body) : timeCli(variant.command());
+            }
+            Arrays.sort(samples);
+            System.out.println(String.format(
+                    Locale.US,
+                    "%-12s %6d %9d %9d %9d",
+                    variant.name(),
+                    runs,
+                    samples[0],
+                    samples[runs / 2],
+                    samples[runs - 1]));
+        }
+    }
+
+    private static long timeCli(List<String> command) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        int exit = process.waitFor();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (exit != 0) {
+            throw new IllegalStateException("CLI exited with " + exit + ": " + command);
+        }
+        return elapsed;
+    }
+
+    private static long timeService(List<String> command, int port, String body)
+            throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/rl/solve"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + SERVICE_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Service exited with " + process.exitValue() + ": " + command);
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (ConnectException e) {
+                    // Not listening yet.
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException("Service did not answer within " + SERVICE_TIMEOUT + ": " + command);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static List<String> concat(List<String> head, String... tail) {
+        List<String> command = new ArrayList<>(head);
+        command.addAll(List.of(tail));
+        return command;
+    }
+
+    private record Variant(String name, boolean service, List<Path> artifacts, List<String> command) {
+    }
+}
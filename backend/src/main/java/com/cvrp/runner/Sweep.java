@@ -0,0 +1,307 @@
+package com.cvrp.runner;
+
+import com.cvrp.model.Instance;
+import com.cvrp.model.SolveResult;
+import com.cvrp.rl.QLearningCvrp;
+import com.cvrp.rl.QMode;
+import com.cvrp.rl.QParams;
+import com.cvrp.util.SeededRandom;
+import com.cvrp.util.Stopwatch;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+
+public final class Sweep {
+    private static final double INFEASIBLE_SCORE = 10.0;
+    private static final int MAX_STEPS = 5_000;
+
+    private Sweep() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = Main.parseArgs(args);
+        List<String> instanceNames = split(options.getOrDefault("instances", "tiny15"));
+        String instanceSeed = options.getOrDefault("instanceSeed", "12345");
+        List<String> seeds = split(options.getOrDefault("seeds", "1,2,3"));
+        int samples = Integer.parseInt(options.getOrDefault("samples", "0"));
+        int rungs = Integer.parseInt(options.getOrDefault("rungs", "1"));
+        int eta = Integer.parseInt(options.getOrDefault("eta", "3"));
+        int threads = Integer.parseInt(
+                options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        Path out = Path.of(options.getOrDefault("out", "sweep.csv"));
+        if (rungs < 1 || eta < 2 || threads < 1) {
+            throw new IllegalArgumentException("rungs must be >= 1, eta >= 2 and threads >= 1");
+        }
+
+        Map<String, Axis> axes = new LinkedHashMap<>();
+        axes.put("episodes", Axis.parse("episodes", options.getOrDefault("episodes", "200"), true));
+        axes.put("alpha", Axis.parse("alpha", options.getOrDefault("alpha", "0.3"), false));
+        axes.put("gamma", Axis.parse("gamma", options.getOrDefault("gamma", "0.9"), false));
+        axes.put("epsilon", Axis.parse("epsilon", options.getOrDefault("epsilon", "0.1"), false));
+        axes.put("bucketSize", Axis.parse("bucketSize", options.getOrDefault("bucketSize", "5"), true));
+        List<QMode> modes = split(options.getOrDefault("mode", "tabular")).stream().map(QMode::parse).toList();
+
+        boolean sampled = samples > 0 || axes.values().stream().anyMatch(Axis::isRange);
+        List<SweepConfig> configs = sampled
+                ? sampleConfigs(axes, modes, Math.max(1, samples), options.getOrDefault("sampleSeed", "sweep"))
+                : gridConfigs(axes, modes);
+
+        Map<String, Instance> instances = new LinkedHashMap<>();
+        for (String name : instanceNames) {
+            instances.put(name, Main.loadInstance(name, instanceSeed));
+        }
+
+        System.out.println(String.format(
+                Locale.US,
+                "Sweep: %d configs x %d instances x %d seeds, rungs=%d eta=%d threads=%d -> %s",
+                configs.size(),
+                instances.size(),
+                seeds.size(),
+                rungs,
+                eta,
+                threads,
+                out));
+
+        QLearningCvrp solver = new QLearningCvrp();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        Ranking ranking;
+        try (SweepWriter writer = SweepWriter.open(out)) {
+            ranking = run(configs, instances, seeds, rungs, eta, pool, writer, solver::solve);
+        } finally {
+            pool.shutdown();
+        }
+
+        int limit = Math.min(5, ranking.configs().size());
+        for (int i = 0; i < limit; i++) {
+            SweepConfig config = ranking.configs().get(i);
+            System.out.println(String.format(
+                    Locale.US, "#%d score=%.4f %s", i + 1, ranking.scores().get(config.id()), config));
+        }
+    }
+
+    static Ranking run(
+            List<SweepConfig> configs,
+            Map<String, Instance> instances,
+            List<String> seeds,
+            int rungs,
+            int eta,
+            ForkJoinPool pool,
+            SweepWriter writer,
+            BiFunction<Instance, QParams, SolveResult> solver) {
+        Stopwatch stopwatch = Stopwatch.startNew();
+        List<SweepConfig> survivors = configs;
+        Map<Integer, Double> scores = new HashMap<>();
+        for (int rung = 0; rung < rungs; rung++) {
+            List<ForkJoinTask<SweepRow>> tasks = new ArrayList<>();
+            for (SweepConfig config : survivors) {
+                int episodes = rungEpisodes(config.episodes(), rung, rungs, eta);
+                for (Map.Entry<String, Instance> instance : instances.entrySet()) {
+                    for (String seed : seeds) {
+                        int rungIdx = rung;
+                        tasks.add(pool.submit(() -> writer.write(
+                                solve(solver, rungIdx, config, episodes, instance.getKey(), instance.getValue(), seed))));
+                    }
+                }
+            }
+            List<SweepRow> rows = new ArrayList<>(tasks.size());
+            for (ForkJoinTask<SweepRow> task : tasks) {
+                rows.add(task.join());
+            }
+            scores = score(rows);
+            Map<Integer, Double> rungScores = scores;
+            survivors = survivors.stream()
+                    .sorted(Comparator.comparingDouble((SweepConfig c) -> rungScores.get(c.id()))
+                            .thenComparingInt(SweepConfig::id))
+                    .toList();
+            System.out.println(String.format(
+                    Locale.US,
+                    "Rung %d: %d configs, %d solves, best score %.4f (config %d) after %d ms",
+                    rung,
+                    survivors.size(),
+                    rows.size(),
+                    rungScores.get(survivors.get(0).id()),
+                    survivors.get(0).id(),
+                    stopwatch.elapsedMillis()));
+            if (rung + 1 < rungs) {
+                survivors = survivors.subList(0, promoted(survivors.size(), eta));
+            }
+        }
+        return new Ranking(survivors, scores);
+    }
+
+    // Rung r of R runs episodes / eta^(R-1-r), so only the last rung gets the full budget.
+    static int rungEpisodes(int episodes, int rung, int rungs, int eta) {
+        int divisor = (int) Math.pow(eta, rungs - 1 - rung);
+        return Math.max(1, episodes / divisor);
+    }
+
+    static int promoted(int configs, int eta) {
+        return Math.max(1, (int) Math.ceil(configs / (double) eta));
+    }
+
+    private static SweepRow solve(
+            BiFunction<Instance, QParams, SolveResult> solver,
+            int rung,
+            SweepConfig config,
+            int episodes,
+            String instanceName,
+            Instance instance,
+            String seed) {
+        QParams params = config.params(episodes, seed);
+        SolveResult result = solver.apply(instance, params);
+        return new SweepRow(
+                rung,
+                config.id(),
+                instanceName,
+                seed,
+                config.mode(),
+                episodes,
+                config.alpha(),
+                config.gamma(),
+                config.epsilon(),
+                config.bucketSize(),
+                result.distance(),
+                result.feasible(),
+                result.runtimeMillis(),
+                result.bestEpisode());
+    }
+
+    // Mean over instance/seed pairs of distance relative to the best feasible run on that pair.
+    static Map<Integer, Double> score(List<SweepRow> rows) {
+        Map<String, Double> bestByPair = new HashMap<>();
+        for (SweepRow row : rows) {
+            if (row.feasible()) {
+                bestByPair.merge(row.instance() + "|" + row.seed(), row.distance(), Math::min);
+            }
+        }
+        Map<Integer, double[]> sums = new HashMap<>();
+        for (SweepRow row : rows) {
+            Double best = bestByPair.get(row.instance() + "|" + row.seed());
+            double score = row.feasible() && best != null && best > 0.0 ? row.distance() / best : INFEASIBLE_SCORE;
+            double[] sum = sums.computeIfAbsent(row.configId(), id -> new double[2]);
+            sum[0] += score;
+            sum[1] += 1;
+        }
+        Map<Integer, Double> scores = new HashMap<>();
+        sums.forEach((id, sum) -> scores.put(id, sum[0] / sum[1]));
+        return scores;
+    }
+
+    static List<SweepConfig> gridConfigs(Map<String, Axis> axes, List<QMode> modes) {
+        List<SweepConfig> configs = new ArrayList<>();
+        for (QMode mode : modes) {
+            for (double episodes : axes.get("episodes").values()) {
+                for (double alpha : axes.get("alpha").values()) {
+                    for (double gamma : axes.get("gamma").values()) {
+                        for (double epsilon : axes.get("epsilon").values()) {
+                            for (double bucketSize : axes.get("bucketSize").values()) {
+                                configs.add(SweepConfig.of(
+                                        configs.size(), mode, (int) episodes, alpha, gamma, epsilon, (int) bucketSize));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return configs;
+    }
+
+    static List<SweepConfig> sampleConfigs(Map<String, Axis> axes, List<QMode> modes, int samples, String seed) {
+        SeededRandom rng = new SeededRandom(seed);
+        List<SweepConfig> configs = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            configs.add(SweepConfig.of(
+                    i,
+                    modes.get(rng.nextInt(modes.size())),
+                    (int) axes.get("episodes").pick(rng),
+                    axes.get("alpha").pick(rng),
+                    axes.get("gamma").pick(rng),
+                    axes.get("epsilon").pick(rng),
+                    (int) axes.get("bucketSize").pick(rng)));
+        }
+        return configs;
+    }
+
+    private static List<String> split(String value) {
+        List<String> parts = new ArrayList<>();
+        for (String part : value.split(",")) {
+            if (!part.isBlank()) {
+                parts.add(part.trim());
+            }
+        }
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException("Expected at least one value in: " + value);
+        }
+        return parts;
+    }
+
+    record Axis(List<Double> values, double low, double high, boolean isRange, boolean integral) {
+
+        static Axis parse(String name, String spec, boolean integral) {
+            int dots = spec.indexOf("..");
+            if (dots >= 0) {
+                double low = Double.parseDouble(spec.substring(0, dots).trim());
+                double high = Double.parseDouble(spec.substring(dots + 2).trim());
+                if (high < low) {
+                    throw new IllegalArgumentException("Empty range for " + name + ": " + spec);
+                }
+                return new Axis(List.of(), low, high, true, integral);
+            }
+            List<Double> values = split(spec).stream().map(Double::parseDouble).toList();
+            return new Axis(values, 0.0, 0.0, false, integral);
+        }
+
+        double pick(SeededRandom rng) {
+            if (!isRange) {
+                return values.get(rng.nextInt(values.size()));
+            }
+            if (integral) {
+                return rng.nextInt((int) low, (int) high + 1);
+            }
+            return high > low ? rng.nextDouble(low, high) : low;
+        }
+    }
+
+    record SweepConfig(
+            int id, QMode mode, int episodes, double alpha, double gamma, double epsilon, int bucketSize) {
+
+        static SweepConfig of(
+                int id, QMode mode, int episodes, double alpha, double gamma, double epsilon, int bucketSize) {
+            SweepConfig config = new SweepConfig(id, mode, episodes, alpha, gamma, epsilon, bucketSize);
+            // Fail fast on out-of-range grid values instead of inside a worker thread.
+            config.params(episodes, "validate");
+            return config;
+        }
+
+        QParams params(int episodeBudget, String seed) {
+            return new QParams(episodeBudget, alpha, gamma, epsilon, bucketSize, MAX_STEPS, seed).withMode(mode);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    Locale.US,
+                    "config=%d mode=%s episodes=%d alpha=%.4f gamma=%.4f epsilon=%.4f bucketSize=%d",
+                    id,
+                    mode.id(),
+                    episodes,
+                    alpha,
+                    gamma,
+                    epsilon,
+                    bucketSize);
+        }
+    }
+
+    record Ranking(List<SweepConfig> configs, Map<Integer, Double> scores) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.cvrp.runner;
+
+import com.cvrp.rl.QMode;
+
+record SweepRow(
+        int rung,
+        int configId,
+        String instance,
+        String seed,
+        QMode mode,
+        int episodes,
+        double alpha,
+        double gamma,
+        double epsilon,
+        int bucketSize,
+        double distance,
+        boolean feasible,
+        long runtimeMs,
+        int bestEpisode) {
+}
@@ -0,0 +1,82 @@
+package com.cvrp.runner;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+// Flushes after every row so partial sweeps stay usable.
+final class SweepWriter implements Closeable {
+    private static final String CSV_HEADER = "rung,configId,instance,seed,mode,episodes,alpha,gamma,epsilon,"
+            + "bucketSize,distance,feasible,runtimeMs,bestEpisode";
+
+    private final BufferedWriter writer;
+    private final ObjectMapper mapper;
+
+    private SweepWriter(BufferedWriter writer, ObjectMapper mapper) {
+        this.writer = writer;
+        this.mapper = mapper;
+    }
+
+    static SweepWriter open(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        boolean jsonLines = path.getFileName().toString().endsWith(".jsonl");
+        if (!jsonLines) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            writer.flush();
+        }
+        return new SweepWriter(writer, jsonLines ? new ObjectMapper() : null);
+    }
+
+    synchronized SweepRow write(SweepRow row) {
+        try {
+            writer.write(mapper != null ? toJson(row) : toCsv(row));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write sweep row", e);
+        }
+        return row;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    private String toJson(SweepRow row) throws JsonProcessingException {
+        return mapper.writeValueAsString(row);
+    }
+
+    private static String toCsv(SweepRow row) {
+        return String.format(
+                Locale.US,
+                "%d,%d,%s,%s,%s,%d,%.6f,%.6f,%.6f,%d,%.4f,%b,%d,%d",
+                row.rung(),
+                row.configId(),
+                row.instance(),
+                row.seed(),
+                row.mode().id(),
+                row.episodes(),
+                row.alpha(),
+                row.gamma(),
+                row.epsilon(),
+                row.bucketSize(),
+                row.distance(),
+                row.feasible(),
+                row.runtimeMs(),
+                row.bestEpisode());
+    }
+}
@@ -0,0 +1,121 @@
+package com.cvrp.util;
+
+import com.cvrp.model.CustomerColumns;
+import com.cvrp.model.Depot;
+import com.cvrp.model.Instance;
+import com.cvrp.model.RoutePlan;
+import com.cvrp.model.Vehicle;
+import com.cvrp.model.VehiclesConfig;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// EUC_2D .vrp files: the depot is node 0 and vehicles <= 0 gives one vehicle per customer.
+public final class CvrplibReader {
+    private CvrplibReader() {
+    }
+
+    public static Instance read(String name, BufferedReader reader, int vehicles) throws IOException {
+        int dimension = -1;
+        int capacity = -1;
+        double[] xs = null;
+        double[] ys = null;
+        int[] demands = null;
+        int depotNode = 1;
+        String section = "";
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.equals("EOF")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                String key = line.substring(0, colon).trim();
+                String value = line.substring(colon + 1).trim();
+                switch (key) {
+                    case "DIMENSION" -> dimension = Integer.parseInt(value);
+                    case "CAPACITY" -> capacity = Integer.parseInt(value);
+                    case "EDGE_WEIGHT_TYPE" -> {
+                        if (!value.equals("EUC_2D")) {
+                            throw new IOException(name + ": unsupported EDGE_WEIGHT_TYPE " + value);
+                        }
+                    }
+                    default -> {
+                        // NAME, COMMENT, TYPE: informational only.
+                    }
+                }
+                continue;
+            }
+            if (line.endsWith("_SECTION")) {
+                section = line;
+                if (dimension <= 0) {
+                    throw new IOException(name + ": DIMENSION must precede " + section);
+                }
+                if (xs == null) {
+                    xs = new double[dimension + 1];
+                    ys = new double[dimension + 1];
+                    demands = new int[dimension + 1];
+                }
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            switch (section) {
+                case "NODE_COORD_SECTION" -> {
+                    int node = Integer.parseInt(parts[0]);
+                    xs[node] = Double.parseDouble(parts[1]);
+                    ys[node] = Double.parseDouble(parts[2]);
+                }
+                case "DEMAND_SECTION" -> demands[Integer.parseInt(parts[0])] = Integer.parseInt(parts[1]);
+                case "DEPOT_SECTION" -> {
+                    int node = Integer.parseInt(parts[0]);
+                    if (node > 0) {
+                        depotNode = node;
+                    }
+                }
+                default -> throw new IOException(name + ": unexpected line outside a section: " + line);
+            }
+        }
+        if (xs == null || capacity <= 0) {
+            throw new IOException(name + ": missing DIMENSION, CAPACITY or NODE_COORD_SECTION");
+        }
+
+        CustomerColumns.Builder customers = new CustomerColumns.Builder(dimension - 1);
+        for (int node = 1; node <= dimension; node++) {
+            if (node != depotNode) {
+                customers.add(customers.size() + 1, xs[node], ys[node], demands[node]);
+            }
+        }
+        int fleetSize = vehicles > 0 ? vehicles : dimension - 1;
+        List<Vehicle> fleet = new ArrayList<>(fleetSize);
+        for (int i = 0; i < fleetSize; i++) {
+            fleet.add(new Vehicle(i, capacity));
+        }
+        return new Instance(
+                name,
+                new Depot(0, xs[depotNode], ys[depotNode]),
+                customers.build(),
+                new VehiclesConfig(fleet));
+    }
+
+    // CVRPLIB rounds every edge to the nearest integer; best-known costs are in these units.
+    public static long roundedCost(Instance instance, List<RoutePlan> routes) {
+        CustomerColumns customers = instance.customers();
+        long cost = 0;
+        for (RoutePlan route : routes) {
+            List<Integer> nodes = route.nodes();
+            for (int i = 1; i < nodes.size(); i++) {
+                int from = nodes.get(i - 1);
+                int to = nodes.get(i);
+                double fromX = from == 0 ? instance.depot().x() : customers.x(from - 1);
+                double fromY = from == 0 ? instance.depot().y() : customers.y(from - 1);
+                double toX = to == 0 ? instance.depot().x() : customers.x(to - 1);
+                double toY = to == 0 ? instance.depot().y() : customers.y(to - 1);
+                cost += Math.round(Math.hypot(fromX - toX, fromY - toY));
+            }
+        }
+        return cost;
+    }
+}
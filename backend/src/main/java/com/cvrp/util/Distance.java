@@ -1,52 +1,33 @@
 package com.cvrp.util;
 
-import com.cvrp.model.Customer;
+import com.cvrp.model.CustomerColumns;
 import com.cvrp.model.Instance;
 
-import java.util.List;
-
 public final class Distance {
     private Distance() {
     }
 
     public static double[][] buildMatrix(Instance instance) {
-        List<Customer> customers = instance.customers();
+        CustomerColumns customers = instance.customers();
         int size = customers.size() + 1;
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        xs[0] = instance.depot().x();
+        ys[0] = instance.depot().y();
+        for (int i = 1; i < size; i++) {
+            xs[i] = customers.x(i - 1);
+            ys[i] = customers.y(i - 1);
+        }
         double[][] matrix = new double[size][size];
         for (int i = 0; i < size; i++) {
+            double x1 = xs[i];
+            double y1 = ys[i];
             for (int j = i; j < size; j++) {
-                double dist = compute(instance, customers, i, j);
+                double dist = Math.hypot(x1 - xs[j], y1 - ys[j]);
                 matrix[i][j] = dist;
                 matrix[j][i] = dist;
             }
         }
         return matrix;
     }
-
-    private static double compute(Instance instance, List<Customer> customers, int from, int to) {
-        double x1;
-        double y1;
-        if (from == 0) {
-            x1 = instance.depot().x();
-            y1 = instance.depot().y();
-        } else {
-            Customer c = customers.get(from - 1);
-            x1 = c.x();
-            y1 = c.y();
-        }
-
-        double x2;
-        double y2;
-        if (to == 0) {
-            x2 = instance.depot().x();
-            y2 = instance.depot().y();
-        } else {
-            Customer c = customers.get(to - 1);
-            x2 = c.x();
-            y2 = c.y();
-        }
-        double dx = x1 - x2;
-        double dy = y1 - y2;
-        return Math.hypot(dx, dy);
-    }
 }
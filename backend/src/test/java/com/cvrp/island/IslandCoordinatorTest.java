@@ -0,0 +1,100 @@
+package com.cvrp.island;
+
+import com.cvrp.mock.MockInstances;
+import com.cvrp.model.Instance;
+import com.cvrp.model.RoutePlan;
+import com.cvrp.model.SolveResult;
+import com.cvrp.rl.QLearningCvrp;
+import com.cvrp.rl.QParams;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IslandCoordinatorTest {
+
+    @Test
+    void islandsOnLocalhostReportAndShareTheGlobalBest() throws Exception {
+        Instance instance = MockInstances.tiny15("islands");
+        List<QParams> params = List.of(
+                new QParams(Integer.MAX_VALUE, 0.3, 0.9, 0.1, 5, 5_000, "island-0"),
+                new QParams(Integer.MAX_VALUE, 0.05, 0.9, 0.9, 5, 5_000, "island-1"));
+        ExecutorService executor = Executors.newFixedThreadPool(params.size());
+        try (IslandCoordinator coordinator = new IslandCoordinator(new InetSocketAddress("127.0.0.1", 0))) {
+            InetSocketAddress address = new InetSocketAddress("127.0.0.1", coordinator.port());
+            List<Future<SolveResult>> islands = new ArrayList<>();
+            for (int i = 0; i < params.size(); i++) {
+                islands.add(executor.submit(() -> IslandWorker.run(address, new QLearningCvrp())));
+            }
+
+            IslandCoordinator.Outcome outcome = coordinator.run(
+                    instance,
+                    params,
+                    50,
+                    1_000,
+                    0.0,
+                    routes -> routes.stream().mapToDouble(RoutePlan::distance).sum());
+
+            assertEquals(2, outcome.islandsReported());
+            assertTrue(outcome.feasible());
+            assertTrue(outcome.migrations() > 0, "global bests are forwarded to the other island");
+            int replayed = 0;
+            for (Future<SolveResult> island : islands) {
+                SolveResult result = island.get(10, TimeUnit.SECONDS);
+                assertTrue(result.feasible());
+                assertTrue(outcome.bestCost() <= result.distance() + 1e-6);
+                replayed += result.log().stream().filter(line -> line.startsWith("Migrants replayed:")).count();
+            }
+            assertTrue(replayed > 0, "at least one island replayed a migrant");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void islandThatDropsBeforeStartFreesItsSlot() throws Exception {
+        Instance instance = MockInstances.tiny15("islands");
+        List<QParams> params = List.of(
+                new QParams(Integer.MAX_VALUE, 0.3, 0.9, 0.1, 5, 5_000, "island-0"),
+                new QParams(Integer.MAX_VALUE, 0.3, 0.9, 0.2, 5, 5_000, "island-1"));
+        ExecutorService executor = Executors.newFixedThreadPool(params.size() + 1);
+        try (IslandCoordinator coordinator = new IslandCoordinator(new InetSocketAddress("127.0.0.1", 0))) {
+            InetSocketAddress address = new InetSocketAddress("127.0.0.1", coordinator.port());
+            Future<IslandCoordinator.Outcome> run = executor.submit(() -> coordinator.run(
+                    instance,
+                    params,
+                    50,
+                    500,
+                    0.0,
+                    routes -> routes.stream().mapToDouble(RoutePlan::distance).sum()));
+            try (SocketChannel dropped = SocketChannel.open(address)) {
+                IslandWire.write(dropped, IslandMessage.hello());
+            }
+            // Let the coordinator see the disconnect before the real islands take both slots.
+            Thread.sleep(300);
+            List<Future<SolveResult>> islands = new ArrayList<>();
+            for (int i = 0; i < params.size(); i++) {
+                islands.add(executor.submit(() -> IslandWorker.run(address, new QLearningCvrp())));
+            }
+
+            IslandCoordinator.Outcome outcome = run.get(30, TimeUnit.SECONDS);
+
+            assertEquals(2, outcome.islands());
+            assertEquals(2, outcome.islandsReported());
+            for (Future<SolveResult> island : islands) {
+                assertTrue(island.get(10, TimeUnit.SECONDS).feasible());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
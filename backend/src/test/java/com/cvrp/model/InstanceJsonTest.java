@@ -0,0 +1,94 @@
+package com.cvrp.model;
+
+import com.cvrp.api.dto.RlSolveRequest;
+import com.cvrp.mock.MockInstances;
+import com.cvrp.rl.Exploration;
+import com.cvrp.rl.QParams;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InstanceJsonTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void customersAreReadIntoColumns() throws Exception {
+        String json = """
+                {"instance": {
+                  "id": "json",
+                  "depot": {"id": 0, "x": 0, "y": 0},
+                  "customers": [
+                    {"id": 1, "x": 3, "y": 4, "demand": 5, "label": {"ignored": true}},
+                    {"id": 2, "x": -1.5, "y": 2.25, "demand": 7}
+                  ],
+                  "vehicles": {"vehicles": [{"id": 0, "capacity": 20}]}
+                }}
+                """;
+
+        RlSolveRequest request = mapper.readValue(json, RlSolveRequest.class);
+        CustomerColumns customers = request.instance().customers();
+
+        assertNull(request.params());
+        assertEquals(2, customers.size());
+        assertEquals(2, customers.id(1));
+        assertEquals(-1.5, customers.x(1));
+        assertEquals(2.25, customers.y(1));
+        assertEquals(12, customers.totalDemand());
+    }
+
+    @Test
+    void paramsWithoutOptionalFieldsUseDefaults() throws Exception {
+        String json = """
+                {"episodes": 10, "alpha": 0.3, "gamma": 0.9, "epsilon": 0.1,
+                 "bucketSize": 5, "maxSteps": 100, "seed": "s"}
+                """;
+
+        QParams params = mapper.readValue(json, QParams.class);
+
+        assertEquals(10, params.episodes());
+        assertEquals(0, params.maxQEntries());
+        assertEquals(Exploration.DEFAULT, params.exploration());
+    }
+
+    @Test
+    void explorationIsSelectedPerRequest() throws Exception {
+        String json = """
+                {"episodes": 10, "alpha": 0.3, "gamma": 0.9, "epsilon": 0.1, "bucketSize": 5,
+                 "maxSteps": 100, "seed": "s",
+                 "exploration": {"strategy": "softmax", "decay": "linear", "warmStart": "savings"}}
+                """;
+
+        Exploration exploration = mapper.readValue(json, QParams.class).exploration();
+
+        assertEquals(Exploration.Strategy.SOFTMAX, exploration.strategy());
+        assertEquals(Exploration.Decay.LINEAR, exploration.decay());
+        assertEquals(Exploration.WarmStart.SAVINGS, exploration.warmStart());
+        assertEquals(0.2, exploration.temperature());
+    }
+
+    @Test
+    void instanceRoundTripsThroughJson() throws Exception {
+        Instance instance = MockInstances.grid20("json");
+
+        Instance copy = mapper.readValue(mapper.writeValueAsString(instance), Instance.class);
+
+        assertEquals(instance, copy);
+    }
+
+    @Test
+    void invalidCustomersAreRejectedWhileStreaming() {
+        String missingDemand = """
+                {"id": "bad", "depot": {"id": 0, "x": 0, "y": 0},
+                 "customers": [{"id": 1, "x": 3, "y": 4}],
+                 "vehicles": {"vehicles": [{"id": 0, "capacity": 20}]}}
+                """;
+        String negativeDemand = missingDemand.replace("\"y\": 4}", "\"y\": 4, \"demand\": -2}");
+
+        assertThrows(JsonMappingException.class, () -> mapper.readValue(missingDemand, Instance.class));
+        assertThrows(JsonMappingException.class, () -> mapper.readValue(negativeDemand, Instance.class));
+    }
+}
@@ -0,0 +1,78 @@
+package com.cvrp.rl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedQTableTest {
+    @Test
+    void evictsRarelyVisitedStatesOnceCapIsReached() {
+        BoundedQTable<String> table = new BoundedQTable<>(4);
+        List<Integer> actions = List.of(1, 2);
+        for (int i = 0; i < 5; i++) {
+            table.values("hot", actions).put(1, -1.0);
+        }
+        table.values("cold", actions);
+        table.values("hot", actions);
+        table.values("new", actions);
+
+        assertEquals(4, table.entries());
+        assertEquals(1, table.evictions());
+        Map<Integer, Double> hot = table.values("hot", actions);
+        assertEquals(-1.0, hot.get(1), "frequently visited state survives eviction");
+        assertEquals(2, table.states());
+    }
+
+    @Test
+    void unboundedTableNeverEvicts() {
+        BoundedQTable<Integer> table = new BoundedQTable<>(0);
+        for (int i = 0; i < 1_000; i++) {
+            table.values(i, List.of(1, 2, 3));
+        }
+
+        assertEquals(3_000, table.entries());
+        assertEquals(0, table.evictions());
+    }
+
+    @Test
+    void updateSurvivesLookupOfTheNextState() {
+        BoundedQTable<String> table = new BoundedQTable<>(2);
+        List<Integer> actions = List.of(1, 2);
+        for (int step = 0; step < 10; step++) {
+            Map<Integer, Double> current = table.values("s" + step, actions);
+            table.values("s" + (step + 1), actions);
+            current.put(1, -1.0 - step);
+
+            assertEquals(-1.0 - step, table.values("s" + step, actions).get(1));
+        }
+        assertTrue(table.evictions() > 0);
+    }
+
+    @Test
+    void concurrentDefaultLeasesEachGetAShareWithoutWaiting() throws Exception {
+        QTableBudget budget = new QTableBudget(8_000, 4);
+        QParams params = QParams.defaultParams();
+
+        try (QTableBudget.Lease first = budget.acquire(params)) {
+            CompletableFuture<QTableBudget.Lease> second = CompletableFuture.supplyAsync(() -> budget.acquire(params));
+            try (QTableBudget.Lease held = second.get(5, TimeUnit.SECONDS)) {
+                assertEquals(2_000, first.params().maxQEntries());
+                assertEquals(2_000, held.params().maxQEntries());
+                assertEquals(2, budget.leases());
+            }
+            try (QTableBudget.Lease small = budget.acquire(params.withMaxQEntries(500))) {
+                assertEquals(500, small.params().maxQEntries(), "a smaller request is kept");
+            }
+        }
+        assertEquals(0, budget.leases(), "closed leases are released");
+        assertThrows(IllegalArgumentException.class, () -> new QTableBudget(8_000, 0));
+        assertEquals(0, new QTableBudget(0, 4).acquire(params).params().maxQEntries(), "0 disables the cap");
+    }
+}
@@ -0,0 +1,73 @@
+package com.cvrp.rl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExplorationTest {
+    @Test
+    void epsilonFollowsTheDecayAtStartMiddleAndEnd() {
+        Exploration constant = decay(Exploration.Decay.CONSTANT, 0);
+        Exploration linear = decay(Exploration.Decay.LINEAR, 0);
+        Exploration exponential = decay(Exploration.Decay.EXPONENTIAL, 0);
+
+        assertEquals(0.5, constant.epsilonAt(0.5, 0.0), 1e-12);
+        assertEquals(0.5, constant.epsilonAt(0.5, 0.5), 1e-12);
+        assertEquals(0.5, constant.epsilonAt(0.5, 1.0), 1e-12);
+
+        assertEquals(0.5, linear.epsilonAt(0.5, 0.0), 1e-12);
+        assertEquals(0.3, linear.epsilonAt(0.5, 0.5), 1e-12);
+        assertEquals(0.1, linear.epsilonAt(0.5, 1.0), 1e-12);
+
+        assertEquals(0.5, exponential.epsilonAt(0.5, 0.0), 1e-12);
+        assertEquals(Math.sqrt(0.5 * 0.1), exponential.epsilonAt(0.5, 0.5), 1e-12, "geometric midpoint");
+        assertEquals(0.1, exponential.epsilonAt(0.5, 1.0), 1e-12);
+
+        assertEquals(0.05, linear.epsilonAt(0.05, 0.5), 1e-12, "never raised towards epsilonEnd");
+    }
+
+    @Test
+    void progressRunsOverDecayEpisodesOrTheEpisodeBudget() {
+        Exploration overBudget = decay(Exploration.Decay.LINEAR, 0);
+        Exploration overTen = decay(Exploration.Decay.LINEAR, 11);
+
+        assertEquals(0.0, overBudget.progress(1, 101, 0, 0), 1e-12);
+        assertEquals(0.5, overBudget.progress(51, 101, 0, 0), 1e-12);
+        assertEquals(1.0, overBudget.progress(101, 101, 0, 0), 1e-12);
+
+        assertEquals(0.5, overTen.progress(6, Integer.MAX_VALUE, 0, 0), 1e-12);
+        assertEquals(1.0, overTen.progress(50, Integer.MAX_VALUE, 0, 0), 1e-12);
+    }
+
+    @Test
+    void unboundedEpisodesDecayOverTheTimeBudget() {
+        Exploration linear = decay(Exploration.Decay.LINEAR, 0);
+
+        assertTrue(linear.decaysOverTime(Integer.MAX_VALUE));
+        assertFalse(linear.decaysOverTime(100));
+        assertFalse(decay(Exploration.Decay.LINEAR, 10).decaysOverTime(Integer.MAX_VALUE));
+        assertFalse(decay(Exploration.Decay.CONSTANT, 0).decaysOverTime(Integer.MAX_VALUE));
+
+        assertEquals(0.0, linear.progress(1, Integer.MAX_VALUE, 0, 1_000), 1e-12);
+        assertEquals(0.25, linear.progress(1_000_000, Integer.MAX_VALUE, 250, 1_000), 1e-12);
+        assertEquals(1.0, linear.progress(2, Integer.MAX_VALUE, 1_500, 1_000), 1e-12);
+    }
+
+    @Test
+    void invalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Exploration(null, 0.0, null, null, 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Exploration(null, null, Exploration.Decay.EXPONENTIAL, 0.0, 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Exploration(null, null, null, null, -1, null));
+        assertThrows(IllegalArgumentException.class, () -> Exploration.Decay.parse("cosine"));
+    }
+
+    private static Exploration decay(Exploration.Decay decay, int decayEpisodes) {
+        return new Exploration(null, null, decay, 0.1, decayEpisodes, null);
+    }
+}
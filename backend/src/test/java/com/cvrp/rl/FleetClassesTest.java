@@ -0,0 +1,46 @@
+package com.cvrp.rl;
+
+import com.cvrp.model.Vehicle;
+import com.cvrp.model.VehiclesConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FleetClassesTest {
+    @Test
+    void dispatchesLargestCapacityFirstAndKeepsVehicleIndices() {
+        VehiclesConfig vehicles = new VehiclesConfig(List.of(
+                new Vehicle(10, 30),
+                new Vehicle(11, 50),
+                new Vehicle(12, 30),
+                new Vehicle(13, 40)));
+
+        FleetClasses fleet = FleetClasses.of(vehicles);
+
+        assertEquals(3, fleet.classCount());
+        assertEquals(1, fleet.vehicleIdx(0));
+        assertEquals(3, fleet.vehicleIdx(1));
+        assertEquals(0, fleet.vehicleIdx(2));
+        assertEquals(2, fleet.vehicleIdx(3));
+        assertEquals(fleet.classIdx(2), fleet.classIdx(3));
+        assertEquals(30, fleet.capacity(3));
+    }
+
+    @Test
+    void homogeneousFleetCollapsesIntoOneClass() {
+        List<Vehicle> trucks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            trucks.add(new Vehicle(i, 100));
+        }
+
+        FleetClasses fleet = FleetClasses.of(new VehiclesConfig(trucks));
+
+        assertEquals(1, fleet.classCount());
+        assertEquals(6, fleet.leftInClassBucket(0));
+        assertEquals(1, fleet.leftInClassBucket(48));
+        assertEquals(0, fleet.leftInClassBucket(49));
+    }
+}
@@ -0,0 +1,51 @@
+package com.cvrp.rl;
+
+import com.cvrp.mock.MockInstances;
+import com.cvrp.model.Instance;
+import com.cvrp.util.Distance;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LinearQFunctionTest {
+    @Test
+    void weightCountStaysFixedWhileTabularStateCountGrows() {
+        Instance instance = MockInstances.grid20("linear");
+        LinearQFunction linear = new LinearQFunction(instance, Distance.buildMatrix(instance), 0.0);
+        TabularQFunction tabular = new TabularQFunction(QParams.defaultParams().withMaxQEntries(0), 0.0);
+        int weights = linear.weightCount();
+        List<Integer> actions = List.of(QLearningCvrp.RETURN_TO_DEPOT, 1, 2, 3);
+
+        for (int i = 0; i < 5_000; i++) {
+            QState state = new QState(i % 21, i, 10_000, i % 20, 0, 1);
+            linear.lookup(state, actions).update(1, -1.0, 0.1);
+            tabular.lookup(state, actions).update(1, -1.0, 0.1);
+        }
+
+        assertEquals(weights, linear.weightCount());
+        assertTrue(linear.summary().startsWith("Linear Q: " + weights + " weights, 5000 updates"));
+        assertTrue(tabular.summary().contains("20000 entries"), tabular.summary());
+    }
+
+    @Test
+    void normalisedUpdateMovesValueTowardsTarget() {
+        Instance instance = MockInstances.grid20("linear");
+        LinearQFunction linear = new LinearQFunction(instance, Distance.buildMatrix(instance), 0.0);
+        QState state = new QState(3, 40, 100, 12, 0, 1);
+        List<Integer> actions = List.of(QLearningCvrp.RETURN_TO_DEPOT, 4, 7);
+        QFunction.ActionValues values = linear.lookup(state, actions);
+        double target = -25.0;
+
+        for (int step = 0; step < 5; step++) {
+            double before = values.value(1);
+            values.update(1, target, 0.5);
+            double after = values.value(1);
+
+            assertEquals(before + 0.5 * (target - before), after, 1e-9, "NLMS closes alpha of the error");
+            assertTrue(Math.abs(target - after) < Math.abs(target - before));
+        }
+    }
+}
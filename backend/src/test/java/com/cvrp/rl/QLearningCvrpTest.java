@@ -4,10 +4,16 @@ import com.cvrp.mock.MockInstances;
 import com.cvrp.model.Instance;
 import com.cvrp.model.RoutePlan;
 import com.cvrp.model.SolveResult;
+import com.cvrp.util.Distance;
+import com.cvrp.util.SeededRandom;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class QLearningCvrpTest {
@@ -39,4 +45,118 @@ class QLearningCvrpTest {
         assertEquals(0, first.capacityViolations(), "no capacity violations expected");
         assertTrue(first.runtimeMillis() >= 0, "runtime should be non-negative");
     }
+
+    @Test
+    void linearModeIsDeterministicAndFeasible() {
+        Instance instance = MockInstances.grid20("unittest");
+        QParams params = new QParams(150, 0.3, 0.9, 0.05, 5, 5_000, "unittest").withMode(QMode.LINEAR);
+        QLearningCvrp solver = new QLearningCvrp();
+
+        SolveResult first = solver.solve(instance, params);
+        SolveResult second = solver.solve(instance, params);
+
+        assertTrue(first.feasible(), "expected feasible solution in linear mode");
+        assertEquals(first.distance(), second.distance(), 1e-6, "deterministic distance for same seed");
+        assertEquals(0, first.capacityViolations(), "no capacity violations expected");
+        assertTrue(first.log().stream().anyMatch(line -> line.startsWith("Linear Q:")), "log reports the model");
+    }
+
+    @Test
+    void softmaxDrawsNearerCandidatesMoreOften() {
+        List<Integer> actions = List.of(1, 2, 3);
+        double[] distances = {0.0, 1.0, 5.0, 10.0};
+        SeededRandom rng = new SeededRandom("softmax");
+        int[] counts = new int[actions.size()];
+
+        for (int draw = 0; draw < 10_000; draw++) {
+            counts[QLearningCvrp.nearestBiased(List.of(0, 1, 2), actions, distances, 0.5, rng)]++;
+        }
+
+        assertTrue(counts[0] > counts[1] && counts[1] > counts[2], Arrays.toString(counts));
+        // Weights exp(-(d - 1) / (0.5 * 16 / 3)) give the nearest about 80% of the draws.
+        assertEquals(0.80, counts[0] / 10_000.0, 0.02, Arrays.toString(counts));
+        assertEquals(2, QLearningCvrp.nearestBiased(List.of(2), actions, distances, 0.5, rng));
+    }
+
+    @Test
+    void warmStartSeedsUnseenQValuesInEachQFunction() {
+        Instance instance = MockInstances.grid20("unittest");
+        QState state = new QState(3, 40, 100, 12, 0, 1);
+        List<Integer> actions = List.of(QLearningCvrp.RETURN_TO_DEPOT, 4, 7);
+        List<QFunction> functions = List.of(
+                new TabularQFunction(QParams.defaultParams(), -42.0),
+                new LinearQFunction(instance, Distance.buildMatrix(instance), -42.0));
+
+        for (QFunction function : functions) {
+            QFunction.ActionValues values = function.lookup(state, actions);
+            assertEquals(-42.0, values.max(), 1e-9, function.getClass().getSimpleName());
+            for (int i = 0; i < actions.size(); i++) {
+                assertEquals(-42.0, values.value(i), 1e-9, function.getClass().getSimpleName());
+            }
+        }
+
+        QParams params = new QParams(5, 0.3, 0.9, 0.1, 5, 5_000, "unittest").withExploration(
+                new Exploration(null, null, null, null, 0, Exploration.WarmStart.SAVINGS));
+        SolveResult result = new QLearningCvrp().solve(instance, params);
+        assertTrue(result.log().stream().anyMatch(line -> line.matches("Warm start: .* initial Q -\\d+\\.\\d+")),
+                "savings warm start seeds a negative initial Q");
+    }
+
+    @Test
+    void softmaxReachesTheThresholdInFewerEpisodesThanUniform() {
+        Instance instance = MockInstances.grid20("unittest");
+        QParams uniform = new QParams(400, 0.3, 0.9, 0.1, 5, 50_000, "unittest");
+        QParams softmax = uniform.withExploration(new Exploration(
+                Exploration.Strategy.SOFTMAX, 0.2, Exploration.Decay.EXPONENTIAL, 0.01, 0, null));
+
+        int uniformEpisodes = episodesToReach(instance, uniform, 400.0);
+        int softmaxEpisodes = episodesToReach(instance, softmax, 400.0);
+
+        assertTrue(uniformEpisodes <= 400, "uniform reaches the threshold within the budget");
+        assertTrue(softmaxEpisodes < uniformEpisodes, softmaxEpisodes + " vs " + uniformEpisodes);
+        assertEquals(softmaxEpisodes, episodesToReach(instance, softmax, 400.0), "deterministic for a seed");
+    }
+
+    @Test
+    void decayOverUnboundedEpisodesNeedsATimeBudget() {
+        Instance instance = MockInstances.tiny15("unittest");
+        QParams params = new QParams(Integer.MAX_VALUE, 0.3, 0.9, 0.3, 5, 5_000, "unittest").withExploration(
+                new Exploration(null, null, Exploration.Decay.LINEAR, 0.01, 0, null));
+        QLearningCvrp solver = new QLearningCvrp();
+
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(instance, params, new SolveListener() {
+            @Override
+            public boolean shouldContinue(int episode, long elapsedMillis) {
+                return episode < 10;
+            }
+        }));
+
+        SolveResult timed = solver.solve(instance, params, new SolveListener() {
+            @Override
+            public boolean shouldContinue(int episode, long elapsedMillis) {
+                return elapsedMillis < 50;
+            }
+
+            @Override
+            public long budgetMillis() {
+                return 50;
+            }
+        });
+        assertTrue(timed.feasible());
+    }
+
+    // First episode whose best feasible distance is at or below threshold, or episodes + 1.
+    private static int episodesToReach(Instance instance, QParams params, double threshold) {
+        int[] reached = {params.episodes() + 1};
+        new QLearningCvrp().solve(instance, params, new SolveListener() {
+            @Override
+            public void onImprovement(
+                    int episode, long elapsedMillis, double distance, boolean feasible, List<RoutePlan> routes) {
+                if (feasible && distance <= threshold && episode < reached[0]) {
+                    reached[0] = episode;
+                }
+            }
+        });
+        return reached[0];
+    }
 }
@@ -0,0 +1,32 @@
+package com.cvrp.runner;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class BuildArtifactsTest {
+    @Test
+    void serviceJarIgnoresClassifiedAndOriginalJars(@TempDir Path dir) throws Exception {
+        for (String name : new String[] {
+                "cvrp-backend-1.4.0.jar",
+                "cvrp-backend-1.4.0.jar.original",
+                "cvrp-backend-1.4.0-sources.jar",
+                "cvrp-backend-1.4.0-cds.jar"}) {
+            Files.createFile(dir.resolve(name));
+        }
+
+        assertEquals(dir.resolve("cvrp-backend-1.4.0.jar"), BuildArtifacts.serviceJar(dir));
+        assertEquals(dir.resolve("cvrp-backend-1.4.0-cds.jar"), BuildArtifacts.cdsJar(dir));
+    }
+
+    @Test
+    void missingJarResolvesToAPathThatDoesNotExist(@TempDir Path dir) {
+        assertFalse(Files.exists(BuildArtifacts.serviceJar(dir)));
+        assertFalse(Files.exists(BuildArtifacts.cdsJar(dir.resolve("cds"))));
+    }
+}
@@ -0,0 +1,28 @@
+package com.cvrp.runner;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GcLogTest {
+
+    @Test
+    void onlyPauseLinesAreCounted(@TempDir Path dir) throws Exception {
+        Path log = dir.resolve("gc.log");
+        Files.writeString(log, """
+                [0.004s][info][gc] Using G1
+                [1.212s][info][gc] GC(0) Pause Young (Normal) (G1 Evacuation Pause) 23M->4M(254M) 3.210ms
+                [2.001s][info][gc] GC(1) Concurrent Mark Cycle 12.500ms
+                [2.010s][info][gc] GC(1) Pause Remark 30M->30M(254M) 1.5ms
+                [4.950s][info][gc] GC(2) Pause Full (System.gc()) 40M->8M(64M) 25.004ms
+                """);
+
+        assertEquals(List.of(3.21, 1.5, 25.004), GcLog.pauses(log));
+        assertEquals(List.of(), GcLog.pauses(dir.resolve("missing.log")));
+    }
+}
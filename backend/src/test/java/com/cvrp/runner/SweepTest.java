@@ -0,0 +1,185 @@
+package com.cvrp.runner;
+
+import com.cvrp.mock.MockInstances;
+import com.cvrp.model.Instance;
+import com.cvrp.model.SolveResult;
+import com.cvrp.rl.QMode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SweepTest {
+    private static final List<QMode> TABULAR = List.of(QMode.TABULAR);
+
+    @Test
+    void gridIsTheCartesianProductOfAxes() {
+        Map<String, Sweep.Axis> axes = axes("100", "0.1,0.3", "0.9", "0.05,0.1,0.2", "5");
+
+        List<Sweep.SweepConfig> configs = Sweep.gridConfigs(axes, List.of(QMode.TABULAR, QMode.LINEAR));
+
+        assertEquals(12, configs.size());
+        assertEquals(0.1, configs.get(0).alpha());
+        assertEquals(0.05, configs.get(0).epsilon());
+        assertEquals(0.1, configs.get(1).epsilon());
+        assertEquals(QMode.LINEAR, configs.get(11).mode());
+        for (int i = 0; i < configs.size(); i++) {
+            assertEquals(i, configs.get(i).id());
+        }
+    }
+
+    @Test
+    void rangesAreSampledWithinBoundsAndReproducibly() {
+        Map<String, Sweep.Axis> axes = axes("50..80", "0.1..0.6", "0.9", "0.1", "3..7");
+
+        List<Sweep.SweepConfig> first = Sweep.sampleConfigs(axes, TABULAR, 40, "s");
+        List<Sweep.SweepConfig> second = Sweep.sampleConfigs(axes, TABULAR, 40, "s");
+
+        assertEquals(first, second);
+        for (Sweep.SweepConfig config : first) {
+            assertTrue(config.episodes() >= 50 && config.episodes() <= 80, config.toString());
+            assertTrue(config.alpha() >= 0.1 && config.alpha() <= 0.6, config.toString());
+            assertTrue(config.bucketSize() >= 3 && config.bucketSize() <= 7, config.toString());
+            assertEquals(0.9, config.gamma());
+        }
+    }
+
+    @Test
+    void invalidAxesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Sweep.Axis.parse("alpha", "0.5..0.1", false));
+        assertThrows(IllegalArgumentException.class, () -> Sweep.Axis.parse("alpha", ",", false));
+        Map<String, Sweep.Axis> outOfRange = axes("100", "1.5", "0.9", "0.1", "5");
+        assertThrows(IllegalArgumentException.class, () -> Sweep.gridConfigs(outOfRange, TABULAR));
+    }
+
+    @Test
+    void scoreIsMeanDistanceRelativeToBestFeasibleRunPerPair() {
+        List<SweepRow> rows = List.of(
+                row(0, "a", "1", 100.0, true),
+                row(1, "a", "1", 150.0, true),
+                row(0, "a", "2", 220.0, true),
+                row(1, "a", "2", 200.0, true),
+                row(2, "a", "1", 90.0, false),
+                row(2, "a", "2", 300.0, true));
+
+        Map<Integer, Double> scores = Sweep.score(rows);
+
+        assertEquals((1.0 + 1.1) / 2, scores.get(0), 1e-9);
+        assertEquals((1.5 + 1.0) / 2, scores.get(1), 1e-9);
+        assertEquals((10.0 + 1.5) / 2, scores.get(2), 1e-9, "infeasible runs score 10");
+    }
+
+    @Test
+    void rungBudgetsAndPromotionFollowEta() {
+        assertEquals(11, Sweep.rungEpisodes(100, 0, 3, 3));
+        assertEquals(33, Sweep.rungEpisodes(100, 1, 3, 3));
+        assertEquals(100, Sweep.rungEpisodes(100, 2, 3, 3));
+        assertEquals(1, Sweep.rungEpisodes(5, 0, 3, 3));
+        assertEquals(4, Sweep.promoted(10, 3));
+        assertEquals(1, Sweep.promoted(2, 3));
+    }
+
+    @Test
+    void successiveHalvingKeepsTheBestThirdEachRung(@TempDir Path dir) throws Exception {
+        List<Sweep.SweepConfig> configs = Sweep.gridConfigs(
+                axes("90", "0.1,0.2,0.3,0.4,0.5,0.6,0.7,0.8,0.9", "0.9", "0.1", "5"), TABULAR);
+        Map<String, Instance> instances = new LinkedHashMap<>();
+        instances.put("tiny15", MockInstances.tiny15("sweep"));
+        Path out = dir.resolve("sweep.csv");
+
+        Sweep.Ranking ranking;
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try (SweepWriter writer = SweepWriter.open(out)) {
+            // Lower alpha gives a shorter distance, so config 0 should win every rung.
+            ranking = Sweep.run(configs, instances, List.of("1", "2"), 3, 3, pool, writer,
+                    (instance, params) -> stub(100.0 + 100.0 * params.alpha() + params.episodes() / 1000.0));
+        } finally {
+            pool.shutdown();
+        }
+
+        List<String> lines = Files.readAllLines(out);
+        assertTrue(lines.get(0).startsWith("rung,configId,instance,seed,mode,episodes"));
+        List<Set<Integer>> configsPerRung = new ArrayList<>();
+        List<Set<Integer>> episodesPerRung = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] fields = line.split(",");
+            int rung = Integer.parseInt(fields[0]);
+            while (configsPerRung.size() <= rung) {
+                configsPerRung.add(new TreeSet<>());
+                episodesPerRung.add(new TreeSet<>());
+            }
+            configsPerRung.get(rung).add(Integer.parseInt(fields[1]));
+            episodesPerRung.get(rung).add(Integer.parseInt(fields[5]));
+        }
+        assertEquals(List.of(Set.of(0, 1, 2, 3, 4, 5, 6, 7, 8), Set.of(0, 1, 2), Set.of(0)), configsPerRung);
+        assertEquals(List.of(Set.of(10), Set.of(30), Set.of(90)), episodesPerRung);
+        assertEquals(9 * 2 + 3 * 2 + 2, lines.size() - 1, "one row per config, instance and seed");
+        assertEquals(0, ranking.configs().get(0).id());
+        assertEquals(1.0, ranking.scores().get(0), 1e-9);
+    }
+
+    @Test
+    void jsonLinesOutputHasOneObjectPerRow(@TempDir Path dir) throws Exception {
+        Path out = dir.resolve("sweep.jsonl");
+        try (SweepWriter writer = SweepWriter.open(out)) {
+            writer.write(row(3, "grid20", "7", 123.5, false));
+        }
+
+        List<String> lines = Files.readAllLines(out);
+        assertEquals(1, lines.size());
+        JsonNode json = new ObjectMapper().readTree(lines.get(0));
+        assertEquals(3, json.get("configId").asInt());
+        assertEquals("grid20", json.get("instance").asText());
+        assertEquals("tabular", json.get("mode").asText());
+        assertFalse(json.get("feasible").asBoolean());
+        assertEquals(123.5, json.get("distance").asDouble());
+    }
+
+    @Test
+    void csvRowsMatchTheHeader(@TempDir Path dir) throws Exception {
+        Path out = dir.resolve("nested/sweep.csv");
+        try (SweepWriter writer = SweepWriter.open(out)) {
+            writer.write(row(3, "grid20", "7", 123.5, true));
+        }
+
+        List<String> lines = Files.readAllLines(out);
+        assertEquals(2, lines.size());
+        assertEquals(lines.get(0).split(",").length, lines.get(1).split(",").length);
+        assertEquals("0,3,grid20,7,tabular,100,0.300000,0.900000,0.100000,5,123.5000,true,4,42", lines.get(1));
+    }
+
+    private static Map<String, Sweep.Axis> axes(
+            String episodes, String alpha, String gamma, String epsilon, String bucketSize) {
+        Map<String, Sweep.Axis> axes = new LinkedHashMap<>();
+        axes.put("episodes", Sweep.Axis.parse("episodes", episodes, true));
+        axes.put("alpha", Sweep.Axis.parse("alpha", alpha, false));
+        axes.put("gamma", Sweep.Axis.parse("gamma", gamma, false));
+        axes.put("epsilon", Sweep.Axis.parse("epsilon", epsilon, false));
+        axes.put("bucketSize", Sweep.Axis.parse("bucketSize", bucketSize, true));
+        return axes;
+    }
+
+    private static SweepRow row(int configId, String instance, String seed, double distance, boolean feasible) {
+        return new SweepRow(
+                0, configId, instance, seed, QMode.TABULAR, 100, 0.3, 0.9, 0.1, 5, distance, feasible, 4, 42);
+    }
+
+    private static SolveResult stub(double distance) {
+        return new SolveResult(distance, true, 1, List.of(), List.of(), 0, 0, 0);
+    }
+}
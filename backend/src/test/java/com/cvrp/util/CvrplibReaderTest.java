@@ -0,0 +1,47 @@
+package com.cvrp.util;
+
+import com.cvrp.model.Instance;
+import com.cvrp.model.RoutePlan;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CvrplibReaderTest {
+
+    @Test
+    void depotBecomesNodeZeroAndCostsAreRounded() throws Exception {
+        String vrp = """
+                NAME : toy
+                TYPE : CVRP
+                DIMENSION : 3
+                EDGE_WEIGHT_TYPE : EUC_2D
+                CAPACITY : 10
+                NODE_COORD_SECTION
+                 1 5 5
+                 2 0 0
+                 3 6 7
+                DEMAND_SECTION
+                 1 4
+                 2 0
+                 3 6
+                DEPOT_SECTION
+                 2
+                 -1
+                EOF
+                """;
+
+        Instance instance = CvrplibReader.read("toy", new BufferedReader(new StringReader(vrp)), 0);
+
+        assertEquals(0.0, instance.depot().x());
+        assertEquals(2, instance.customers().size());
+        assertEquals(5.0, instance.customers().x(0));
+        assertEquals(6, instance.customers().demand(1));
+        assertEquals(2, instance.vehicles().vehicles().size());
+        // 0->1 = 7.07 -> 7, 1->2 = 2.24 -> 2, 2->0 = 9.22 -> 9.
+        assertEquals(18, CvrplibReader.roundedCost(instance, List.of(new RoutePlan(1, List.of(0, 1, 2, 0), 10, 0.0))));
+    }
+}